@@ -0,0 +1,76 @@
+package com.jh.restaurantreservationpj.auth;
+
+import com.jh.restaurantreservationpj.member.domain.Member;
+import com.jh.restaurantreservationpj.member.event.MemberRolesChangedEvent;
+import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+토큰만으로 인증하는 경우 회원의 현재 상태 확인
+- 탈퇴(삭제)된 회원의 토큰을 거르고
+- 토큰 발급 이후 바뀐 권한(ex. 방문 인증 후 리뷰 작성 권한)을 다시 로그인하지 않아도 적용한다.
+회원별 권한을 ttl 동안 기억하여 ttl 마다 한 번만 DB를 조회하고, 이 서버에서 권한이 바뀐 경우(MemberRolesChangedEvent) 바로 지운다.
+다른 서버에서 바뀐 권한과 탈퇴는 ttl 이후에 적용된다.
+ttl 이 0 이하인 경우 확인하지 않고 토큰의 권한을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberRevocationChecker {
+
+    private static final int MAX_ENTRIES = 10000; // 기억하는 최대 회원 수
+
+    private final MemberRepository memberRepository;
+
+    private final Map<String, CheckResult> results = new ConcurrentHashMap<>();
+
+    @Value("${spring.jwt.revocation-check-ttl:30}")
+    private long ttlSeconds; // 확인 결과 유지 시간(초)
+
+    public boolean isEnabled() {
+        return ttlSeconds > 0;
+    }
+
+    // 회원의 현재 권한 (탈퇴한 회원인 경우 null)
+    public List<String> getRoles(String userId) {
+        long now = System.currentTimeMillis();
+        CheckResult result = results.get(userId);
+        if (result != null && result.expireAt > now) {
+            return result.roles;
+        }
+
+        if (results.size() >= MAX_ENTRIES) { // 만료된 결과 정리
+            results.values().removeIf(r -> r.expireAt <= now);
+        }
+
+        List<String> roles = memberRepository.findWithMemberRolesByUserId(userId)
+                .map(Member::toLoginResponse)
+                .map(response -> List.copyOf(response.getRoles()))
+                .orElse(null);
+        results.put(userId, new CheckResult(roles, now + ttlSeconds * 1000));
+        return roles;
+    }
+
+    // 권한이 바뀐 회원의 확인 결과 제거
+    // 트랜잭션 안에서 바로 지우고, 커밋 전 다른 요청이 이전 권한을 다시 기억했을 수 있으므로 커밋 후 한 번 더 지운다.
+    @EventListener
+    public void evict(MemberRolesChangedEvent event) {
+        results.remove(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictAfterCommit(MemberRolesChangedEvent event) {
+        results.remove(event.userId());
+    }
+
+    private record CheckResult(List<String> roles, long expireAt) {
+    }
+}
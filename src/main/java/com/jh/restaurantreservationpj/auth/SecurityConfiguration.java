@@ -1,5 +1,7 @@
 package com.jh.restaurantreservationpj.auth;
 
+import com.jh.restaurantreservationpj.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfiguration {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -31,11 +34,14 @@ public class SecurityConfiguration {
                         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequest ->
                         authorizeRequest
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 연결 종료 시 비동기 디스패치 (최초 요청에서 인가됨)
                                 .requestMatchers("/auth/**").permitAll()
                                 .requestMatchers("/restaurants").permitAll()
                                 .requestMatchers("/restaurants/search").permitAll()
+                                .requestMatchers("/restaurants/autocomplete").permitAll()
                                 .requestMatchers("/restaurants/restaurant/{restaurantName}").permitAll()
                                 .requestMatchers("/reviews/search/**").permitAll()
+                                .requestMatchers("/reviews/cursor").permitAll()
                                 .requestMatchers("/reservations/reservation/visit").permitAll()
                                 .requestMatchers("/error/**").permitAll()
                                 .anyRequest().authenticated()
@@ -44,6 +50,7 @@ public class SecurityConfiguration {
                         exception.authenticationEntryPoint(new JwtAuthenticationEntryPoint()).accessDeniedHandler(new JwtAuthDeniedHandler())
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class) // 인증된 회원 별로 요청 수 제한
                 .headers(
                         headersConfigurer ->
                                 headersConfigurer.frameOptions(
@@ -1,21 +1,37 @@
 package com.jh.restaurantreservationpj.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.jh.restaurantreservationpj.member.service.MemberService;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
-
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -26,12 +42,60 @@ public class TokenProvider {
     private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1hour
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
+    private static final String CLAIMS_ATTRIBUTE = TokenProvider.class.getName() + ".CLAIMS";
 
     private final MemberService memberService;
+    private final MemberRevocationChecker memberRevocationChecker;
 
     @Value("${spring.jwt.secret}")
     private String secret;
 
+    // true 인 경우 검증된 토큰의 정보로 인증 (요청마다 회원을 조회하지 않음)
+    // 토큰 발급 이후 바뀐 권한은 MemberRevocationChecker 가 확인한 권한을 사용한다.
+    @Value("${spring.jwt.stateless:true}")
+    private boolean stateless;
+
+    private SecretKey secretKey; // 서명 검증에 사용할 비밀키 (한 번만 생성)
+    private JwtParser jwtParser; // 비밀키가 설정된 파서 (설정 이후에는 상태가 바뀌지 않으므로 공유)
+
+    @Value("${spring.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize; // 검증된 토큰 정보를 기억하는 최대 개수 (0 이하인 경우 기억하지 않음)
+
+    // 서명 검증을 마친 토큰 정보 (토큰의 sha-256 해시 -> claims)
+    // 같은 토큰이 반복해서 들어와도 서명 검증과 파싱은 한 번만 한다.
+    // 사용 중인 토큰 원문이 힙에 남지 않도록 해시를 key 로 사용한다.
+    // 토큰마다 만료 시각까지만 기억하고, 최대 개수를 넘으면 덜 사용된 토큰부터 지운다.
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        secretKey = new SecretKeySpec(TextCodec.BASE64.decode(secret), SignatureAlgorithm.HS512.getJcaName());
+        jwtParser = Jwts.parser().setSigningKey(secretKey);
+        if (claimsCacheSize <= 0) {
+            return;
+        }
+
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     // 토큰 생성 발급
     public String generateToken(String userName, List<String> roles) {
         Claims claims = Jwts.claims().setSubject(userName);
@@ -45,15 +109,33 @@ public class TokenProvider {
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setIssuedAt(now) // 토큰 생성 시간
                 .setExpiration(expireDate) // 토큰 만료 시간
-                .signWith(SignatureAlgorithm.HS512, secret) // 사용할 암호화 알고리즘, 비밀키
+                .signWith(SignatureAlgorithm.HS512, secretKey) // 사용할 암호화 알고리즘, 비밀키
                 .compact();
     }
 
     // jwt를 사용하여 사용자의 인증 정보 가져오는 메소드
-    @Transactional
+    // 탈퇴한 회원의 토큰인 경우 null
     public Authentication getAuthentication(String jwt) {
-        UserDetails userDetails = memberService.loadUserByUsername(getUserName(jwt));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        if (!stateless) {
+            UserDetails userDetails = memberService.loadUserByUsername(getUserName(jwt));
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        }
+
+        Claims claims = parseClaims(jwt);
+        String userId = claims.getSubject();
+
+        List<?> roles = claims.get(KEY_ROLES, List.class);
+        if (memberRevocationChecker.isEnabled()) { // 토큰 발급 이후 바뀐 권한 적용
+            roles = memberRevocationChecker.getRoles(userId);
+            if (roles == null) {
+                return null;
+            }
+        }
+
+        List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .map(r -> new SimpleGrantedAuthority(String.valueOf(r)))
+                .toList();
+        return new UsernamePasswordAuthenticationToken(userId, "", authorities);
     }
 
     // 유저 아이디 가져오기
@@ -73,8 +155,13 @@ public class TokenProvider {
     }
 
     // 컨트롤러에서 사용할 메소드
-    // 토큰을 통해 회원 아이디를 가져온다.
+    // 필터에서 인증된 정보로 회원 아이디를 가져온다. (인증 정보가 없는 경우에만 토큰을 다시 확인)
     public String getUserId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+
         String token = resolveTokenFromRequest(request);
         return getUserName(token);
     }
@@ -88,12 +175,67 @@ public class TokenProvider {
     }
 
     // 토큰 정보 가져오기
+    // 한 요청 안에서는 요청 속성에 저장한 결과를, 요청 사이에는 claimsCache 를 사용한다.
     private Claims parseClaims(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof ParsedToken parsed
+                && parsed.token().equals(token)) {
+            return parsed.claims();
+        }
+
+        Claims claims = verifyClaims(token);
+        if (attributes != null) {
+            attributes.setAttribute(CLAIMS_ATTRIBUTE, new ParsedToken(token, claims), RequestAttributes.SCOPE_REQUEST);
+        }
+        return claims;
+    }
+
+    // 서명을 검증한 토큰 정보 (만료된 토큰과 서명이 잘못된 토큰은 기억하지 않는다)
+    private Claims verifyClaims(String token) {
+        if (claimsCache == null) {
+            return parseSignedClaims(token);
+        }
+
+        String tokenHash = hash(token);
+        Claims cached = claimsCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseSignedClaims(token);
+        if (claims.getExpiration() != null && claims.getExpiration().after(new Date())) {
+            claimsCache.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    private Claims parseSignedClaims(String token) {
         try {
-            return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             log.error("토큰 정보 에러 = {}", e.getMessage());
             return e.getClaims();
         }
     }
+
+    // 토큰의 sha-256 해시 (claimsCache 의 key)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    long getCachedClaimsCount() {
+        if (claimsCache == null) {
+            return 0;
+        }
+        claimsCache.cleanUp();
+        return claimsCache.estimatedSize();
+    }
+
+    private record ParsedToken(String token, Claims claims) {
+    }
 }
@@ -4,5 +4,13 @@ package com.jh.restaurantreservationpj.config;
 public class CacheKey {
     public static final String RESERVATION_KEY = "reservation";
     public static final String RESTAURANT_KEY = "restaurant";
+    public static final String RESTAURANT_MISS_KEY = "restaurantMiss"; // 없는 매장 조회 결과 (짧게 유지)
     public static final String REVIEW_KEY = "review";
+
+    // 페이징 전체 개수 key (TotalCountCache)
+    public static final String RESTAURANT_COUNT_KEY = "count:restaurant";
+    public static final String REVIEW_COUNT_KEY = "count:review";
+    public static final String RESTAURANT_REVIEW_COUNT_KEY = "count:review:restaurant:"; // + 매장 아이디(PK)
+    public static final String MEMBER_RESERVATION_COUNT_KEY = "count:reservation:member:"; // + 회원 아이디(PK)
+    public static final String RESTAURANT_RESERVATION_COUNT_KEY = "count:reservation:restaurant:"; // + 매장 아이디(PK)
 }
@@ -0,0 +1,93 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/*
+캐시 값을 작게 저장하기 위한 serializer
+delegate 로 직렬화한 값이 threshold 이상인 경우 deflate 로 압축한다.
+저장 형식 : [형식 1byte][데이터]
+형식 바이트가 없는 값(기존 json 캐시)은 legacy serializer 로 읽는다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte RAW = 0; // 압축하지 않은 값
+    private static final byte DEFLATE = 1; // deflate 로 압축한 값
+
+    private final RedisSerializer<Object> delegate;
+    private final RedisSerializer<Object> legacy;
+    private final int compressThreshold; // 0 이하인 경우 압축하지 않음
+
+    public CompactRedisSerializer(RedisSerializer<Object> delegate, RedisSerializer<Object> legacy, int compressThreshold) {
+        this.delegate = delegate;
+        this.legacy = legacy;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] serialized = delegate.serialize(value);
+        if (serialized == null) {
+            return null;
+        }
+
+        if (compressThreshold > 0 && serialized.length >= compressThreshold) {
+            return withHeader(DEFLATE, deflate(serialized));
+        }
+
+        return withHeader(RAW, serialized);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return switch (bytes[0]) {
+            case RAW -> delegate.deserialize(body);
+            case DEFLATE -> delegate.deserialize(inflate(body));
+            default -> legacy.deserialize(bytes); // 형식 바이트가 없는 기존 값
+        };
+    }
+
+    private static byte[] withHeader(byte format, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = format;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 압축할 수 없습니다.", e);
+        } finally {
+            deflater.end();
+        }
+
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값의 압축을 풀 수 없습니다.", e);
+        }
+    }
+}
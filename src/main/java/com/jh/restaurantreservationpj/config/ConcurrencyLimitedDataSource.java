@@ -0,0 +1,136 @@
+package com.jh.restaurantreservationpj.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+커넥션 풀 앞에서 동시에 db 를 사용하는 스레드 수를 제한하는 DataSource
+가상 스레드로 요청을 처리하면 요청 수만큼 스레드가 만들어지므로, 모두 커넥션 풀에서 기다리지 않도록
+- permits 개의 허가를 받은 스레드만 커넥션을 가져가고 (커넥션을 닫을 때 반납)
+- 허가를 기다리는 스레드가 max-waiting 을 넘으면 기다리지 않고 바로 실패한다.
+- timeout 동안 허가를 받지 못해도 실패한다.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxWaiting;
+    private final long timeout; // 허가를 기다리는 최대 시간(ms)
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger maxInUse = new AtomicInteger(); // 동시에 사용한 커넥션 수의 최댓값
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitedDataSource(DataSource dataSource, int maxPermits, int maxWaiting, long timeout) {
+        super(dataSource);
+        this.permits = new Semaphore(maxPermits, true); // 먼저 기다린 스레드부터
+        this.maxPermits = maxPermits;
+        this.maxWaiting = maxWaiting;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getInUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getMaxInUse() {
+        return maxInUse.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    // 사용 중, 대기 중인 스레드 수와 거절 횟수 측정 값 등록
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.gate.in-use", this, ConcurrencyLimitedDataSource::getInUse).register(registry);
+        Gauge.builder("datasource.gate.waiting", this, ConcurrencyLimitedDataSource::getWaiting).register(registry);
+        FunctionCounter.builder("datasource.gate.rejected", this, ConcurrencyLimitedDataSource::getRejected).register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        if (!permits.tryAcquire()) {
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                rejected.incrementAndGet();
+                throw new SQLTransientConnectionException("db 사용 대기 스레드가 너무 많습니다. (대기 " + maxWaiting + ")");
+            }
+
+            try {
+                if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    rejected.incrementAndGet();
+                    throw new SQLTransientConnectionException("db 사용 허가를 " + timeout + "ms 동안 받지 못했습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("db 사용 허가를 기다리는 중 중단되었습니다.", e);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        maxInUse.accumulateAndGet(getInUse(), Math::max);
+    }
+
+    // 커넥션을 닫을 때 허가 반납 (여러 번 닫아도 한 번만 반납)
+    private Connection releaseOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConcurrencyLimitedDataSource.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    permits.release();
+                }
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.jh.restaurantreservationpj.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+// 커서 기반 페이징의 위치 (마지막으로 조회한 데이터의 등록 날짜 + 아이디)
+// 클라이언트에는 base64url 로 인코딩한 문자열로 전달한다.
+public record Cursor(LocalDateTime regDate, Long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public String encode() {
+        String value = regDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없는 경우 null (첫 페이지), 잘못된 커서인 경우 invalid exception
+    public static <X extends RuntimeException> Cursor decode(String value, Supplier<X> invalid) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, index)), Long.parseLong(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw invalid.get();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.jh.restaurantreservationpj.config;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 페이징 결과
+// 다음 페이지는 nextCursor 를 전달하여 조회한다.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+    private final List<T> content; // 현재 페이지 목록
+    private final int size; // 페이지 크기
+    private final boolean hasNext; // 다음 페이지 존재 여부
+    private final String nextCursor; // 다음 페이지 커서 (다음 페이지가 없는 경우 null)
+
+    // size + 1 개를 조회한 결과로 생성 (size 보다 많으면 다음 페이지가 있음)
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,48 @@
+package com.jh.restaurantreservationpj.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/*
+DataSource 를 ConcurrencyLimitedDataSource 로 감싸는 설정
+가상 스레드(spring.threads.virtual.enabled)로 요청을 처리할 때 db 에 몰리는 스레드 수를 제한한다.
+허가 수는 기본으로 커넥션 풀 크기와 같게 하여 풀에서 오래 기다리는 스레드가 없도록 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.gate.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceGateConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 설정은 Environment 에서 읽는다.
+    @Bean
+    public static BeanPostProcessor dataSourceGatePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                return new ConcurrencyLimitedDataSource(dataSource,
+                        environment.getProperty("datasource.gate.permits", Integer.class, poolSize), // 동시에 db 를 사용하는 최대 스레드 수
+                        environment.getProperty("datasource.gate.max-waiting", Integer.class, 1000), // 허가를 기다리는 최대 스레드 수
+                        environment.getProperty("datasource.gate.timeout", Long.class, 5000L)); // 허가를 기다리는 최대 시간(ms)
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceGateMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource gate) {
+                gate.bindTo(registry);
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.jh.restaurantreservationpj.config;
 
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyException;
 import com.jh.restaurantreservationpj.member.exception.MemberException;
 import com.jh.restaurantreservationpj.reservation.exception.ReservationException;
 import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
@@ -104,6 +105,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(GlobalResponse.toGlobalResponseFail(e.getReviewErrorCode().getStatus(), e.getReviewErrorCode().getMessage()));
     }
 
+    // Idempotency-Key 관련 에러 핸들러 -> 400에러
+    @ExceptionHandler(IdempotencyException.class)
+    private ResponseEntity<GlobalResponse<?>> handleIdempotencyException(IdempotencyException e) {
+        log.error("Idempotency-Key 관련 exception = {}", e.getIdempotencyErrorCode().getMessage());
+
+        return ResponseEntity.badRequest().body(GlobalResponse.toGlobalResponseFail(e.getIdempotencyErrorCode().getStatus(), e.getIdempotencyErrorCode().getMessage()));
+    }
+
     // 예상하지 못한 에러 -> 500 에러
     @ExceptionHandler(RuntimeException.class)
     private ResponseEntity<GlobalResponse<?>> handleNonExpectedExceptionHandler(RuntimeException e) {
@@ -0,0 +1,44 @@
+package com.jh.restaurantreservationpj.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+TimeOrderedIdGenerator 의 노드 번호 설정
+id.node 를 설정한 경우 그 번호를, 아닌 경우 redis 카운터로 서버마다 다른 번호를 받는다. (1024 대까지 겹치지 않음)
+redis 를 사용할 수 없는 경우 임의의 번호를 그대로 사용한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdNodeConfig {
+
+    private static final String NODE_SEQ_KEY = "id:node:seq";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${id.node:-1}")
+    private long node;
+
+    @PostConstruct
+    public void assignNode() {
+        if (node >= 0) {
+            TimeOrderedIdGenerator.setNode(node);
+            return;
+        }
+
+        try {
+            Long seq = stringRedisTemplate.opsForValue().increment(NODE_SEQ_KEY);
+            if (seq != null) {
+                TimeOrderedIdGenerator.setNode(Math.floorMod(seq, TimeOrderedIdGenerator.MAX_NODE + 1));
+            }
+        } catch (RuntimeException e) {
+            log.warn("아이디 노드 번호를 받지 못해 임의의 번호 사용 = {}", e.getMessage());
+        }
+        log.info("아이디 노드 번호 = {}", TimeOrderedIdGenerator.getNode());
+    }
+}
@@ -1,7 +1,9 @@
 package com.jh.restaurantreservationpj.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -9,33 +11,103 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 // redis cache 설정
 @Configuration
 public class RedisConfig {
 
+    private static final Duration NEGATIVE_CACHE_TTL = Duration.ofSeconds(30); // 없는 값 조회 결과 수명
+
+    // 캐시별 로컬 캐시(L1) 설정
+    // 매장 상세 정보는 자주 조회되고 거의 바뀌지 않으므로 길게 유지
+    private static final Map<String, TwoLevelCacheManager.LocalCacheSpec> LOCAL_CACHE_SPECS = Map.of(
+            CacheKey.RESTAURANT_KEY, new TwoLevelCacheManager.LocalCacheSpec(10000, Duration.ofMinutes(10)),
+            CacheKey.RESERVATION_KEY, new TwoLevelCacheManager.LocalCacheSpec(10000, Duration.ofMinutes(1)),
+            CacheKey.REVIEW_KEY, new TwoLevelCacheManager.LocalCacheSpec(10000, Duration.ofMinutes(5)),
+            CacheKey.RESTAURANT_MISS_KEY, new TwoLevelCacheManager.LocalCacheSpec(10000, NEGATIVE_CACHE_TTL)
+    );
+    private static final TwoLevelCacheManager.LocalCacheSpec DEFAULT_LOCAL_CACHE_SPEC = new TwoLevelCacheManager.LocalCacheSpec(1000, Duration.ofMinutes(1));
+
     @Value("${spring.data.redis.port}")
     private int port;
 
     @Value("${spring.data.redis.host}")
     private String host;
 
+    @Value("${cache.redis.serializer:smile}")
+    private String valueFormat; // 캐시 값 저장 형식 (json, smile)
+
+    @Value("${cache.redis.compress-threshold:1024}")
+    private int compressThreshold; // 캐시 값이 이 크기(byte) 이상이면 압축 (0 이하인 경우 압축하지 않음)
+
+    @Value("${cache.load-lock-ttl:3000}")
+    private long loadLockTtl; // 노드 간 원본 조회 잠금 시간(ms), 0 인 경우 잠그지 않음
+
+    @Value("${cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta; // 만료 전 조기 갱신 강도, 0 인 경우 갱신하지 않음
+
+    // 로컬 캐시(L1) + redis 캐시(L2)
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, StringRedisTemplate stringRedisTemplate) {
+        return new TwoLevelCacheManager(redisCacheManager(redisConnectionFactory), stringRedisTemplate, LOCAL_CACHE_SPECS, DEFAULT_LOCAL_CACHE_SPEC,
+                Duration.ofMillis(loadLockTtl), earlyRefreshBeta);
+    }
+
+    // 다른 노드의 캐시 변경 알림 수신
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())) // key serializer
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())) // value serializer
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer(valueFormat, compressThreshold))) // value serializer
                 .entryTtl(Duration.ofMinutes(30));// 캐시 수명
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(configuration)
+                .withCacheConfiguration(CacheKey.RESTAURANT_MISS_KEY, configuration.entryTtl(NEGATIVE_CACHE_TTL))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return redisCacheManager;
+    }
+
+    // 캐시 값 serializer
+    // json 이며 압축하지 않는 경우 기존 형식 그대로 저장
+    static RedisSerializer<Object> valueSerializer(String valueFormat, int compressThreshold) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        if ("json".equalsIgnoreCase(valueFormat) && compressThreshold <= 0) {
+            return jsonSerializer;
+        }
+
+        RedisSerializer<Object> delegate = "smile".equalsIgnoreCase(valueFormat) ? smileSerializer() : jsonSerializer;
+        return new CompactRedisSerializer(delegate, jsonSerializer, compressThreshold);
+    }
+
+    // 필드 이름과 값을 이진 형식으로 저장하는 smile serializer (타입 정보는 json 과 같은 방식으로 저장)
+    private static GenericJackson2JsonRedisSerializer smileSerializer() {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(smileMapper, null);
+        smileMapper.activateDefaultTyping(smileMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+
+        return new GenericJackson2JsonRedisSerializer(smileMapper);
     }
 
     @Bean
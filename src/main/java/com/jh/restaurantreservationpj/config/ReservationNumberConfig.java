@@ -0,0 +1,28 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.jh.restaurantreservationpj.reservation.repository.ReservationRepository;
+import com.jh.restaurantreservationpj.reservation.service.BlockReservationNumberAllocator;
+import com.jh.restaurantreservationpj.reservation.service.RedisReservationNumberLeaser;
+import com.jh.restaurantreservationpj.reservation.service.ReservationNumberAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 예약 번호 발급기 설정
+// 모든 노드가 redis 카운터를 공유하여 서로 겹치지 않는 번호 구간을 임대한다.
+@Configuration
+public class ReservationNumberConfig {
+
+    @Value("${reservation.number.block-size:1000}")
+    private int blockSize; // 한 번에 임대하는 예약 번호 개수
+
+    @Value("${reservation.number.seed-gap-blocks:64}")
+    private int seedGapBlocks; // 카운터 유실 시 건너뛰는 구간 수 (서버 수 이상, 유실 전 다른 서버가 임대해 둔 구간과 겹치지 않도록)
+
+    @Bean
+    public ReservationNumberAllocator reservationNumberAllocator(StringRedisTemplate stringRedisTemplate, ReservationRepository reservationRepository) {
+        return new BlockReservationNumberAllocator(new RedisReservationNumberLeaser(stringRedisTemplate, reservationRepository::findMaxReservationNumber,
+                (long) seedGapBlocks * blockSize), blockSize);
+    }
+}
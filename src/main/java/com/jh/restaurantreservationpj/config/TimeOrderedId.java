@@ -0,0 +1,15 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 애플리케이션에서 시간 순서대로 증가하는 64bit 아이디를 만들어 저장 (TimeOrderedIdGenerator)
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
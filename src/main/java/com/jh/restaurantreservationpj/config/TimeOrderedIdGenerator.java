@@ -0,0 +1,57 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+db 를 거치지 않고 아이디를 만드는 generator
+아이디 = 시각(41bit, ms) | 노드 번호(10bit) | 같은 ms 안의 순번(12bit)
+- 아이디를 받으려고 db 에 접근하지 않으므로 insert 를 batch 로 묶을 수 있고, 시퀀스 테이블 조회로 커넥션을 더 사용하지 않는다.
+- 시간 순서로 증가하므로 pk 인덱스의 끝에 추가된다.
+- 같은 ms 안의 순번을 모두 사용하거나 시계가 뒤로 가면 마지막 시각을 이어서 사용한다.
+노드 번호는 서버가 뜰 때 IdNodeConfig 가 정하고, 정하기 전에는 임의의 번호를 사용한다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+
+    // 마지막으로 사용한 (시각 << SEQUENCE_BITS | 순번)
+    private static final AtomicLong LAST = new AtomicLong();
+    private static volatile long node = ThreadLocalRandom.current().nextLong(MAX_NODE + 1);
+
+    static void setNode(long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 이어야 합니다.");
+        }
+        TimeOrderedIdGenerator.node = node;
+    }
+
+    static long getNode() {
+        return node;
+    }
+
+    public static long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long last;
+        long next;
+        do {
+            last = LAST.get();
+            next = Math.max(now, last + 1); // 순번이 넘치면 다음 ms 로 이어짐
+        } while (!LAST.compareAndSet(last, next));
+
+        long time = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return time << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | sequence;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+}
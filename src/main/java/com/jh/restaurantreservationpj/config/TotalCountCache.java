@@ -0,0 +1,96 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+페이징 조회의 전체 개수 캐시
+- approximate : 처음 조회한 개수를 저장해두고 등록, 삭제 시 증감하여 사용 (count-ttl 이 지나면 다시 조회)
+- exact : 페이지를 조회할 때마다 count 쿼리 실행
+마지막 페이지처럼 현재 페이지로 전체 개수를 알 수 있는 경우에는 count 쿼리를 실행하지 않는다.
+개수는 서버마다 따로 저장하므로 다른 서버의 변경은 count-ttl 이 지난 뒤 반영된다.
+ */
+@Component
+public class TotalCountCache {
+
+    private static final String EXACT = "exact";
+    private static final int MAX_ENTRIES = 10000;
+
+    @Value("${paging.count-mode:approximate}")
+    private String countMode; // 개수 조회 방식 (approximate, exact)
+
+    @Value("${paging.count-ttl:300}")
+    private long countTtl; // 저장한 개수를 사용할 시간(초)
+
+    private final Map<String, Count> counts = new ConcurrentHashMap<>();
+
+    // 현재 페이지 목록과 전체 개수로 페이지 생성
+    public <T> Page<T> page(List<T> content, Pageable pageable, String key, LongSupplier counter) {
+        long minimum = pageable.getOffset() + content.size(); // 현재 페이지까지의 개수보다 적을 수 없음
+        return PageableExecutionUtils.getPage(content, pageable, () -> Math.max(count(key, counter), minimum));
+    }
+
+    public long count(String key, LongSupplier counter) {
+        if (EXACT.equalsIgnoreCase(countMode)) {
+            return counter.getAsLong();
+        }
+
+        long now = System.currentTimeMillis();
+        Count count = counts.get(key);
+        if (count == null || count.expireAt < now) {
+            if (counts.size() >= MAX_ENTRIES) {
+                counts.clear();
+            }
+            count = new Count(new AtomicLong(counter.getAsLong()), now + countTtl * 1000);
+            counts.put(key, count);
+        }
+
+        return count.value.get();
+    }
+
+    // 등록, 삭제된 개수 반영 (트랜잭션 안에서는 커밋 후 반영)
+    public void adjust(String key, long delta) {
+        afterCommit(() -> apply(key, delta));
+    }
+
+    // 한 번에 여러 건이 변경되어 증감할 수 없는 경우 다음 조회 시 다시 조회
+    public void evictByPrefix(String prefix) {
+        afterCommit(() -> counts.keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 저장된 개수가 있는 경우에만 증감 (없는 경우 다음 조회 시 조회)
+    private void apply(String key, long delta) {
+        Count count = counts.get(key);
+        if (count != null) {
+            count.value.updateAndGet(value -> Math.max(0, value + delta));
+        }
+    }
+
+    private record Count(AtomicLong value, long expireAt) {
+    }
+}
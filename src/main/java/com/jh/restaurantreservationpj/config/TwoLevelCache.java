@@ -0,0 +1,343 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+로컬 캐시(L1, caffeine) + redis 캐시(L2) 2단계 캐시
+조회 시 L1 -> L2 -> 원본 순서로 확인하고, 변경(put, evict, clear) 시 다른 노드의 L1을 비우도록 알린다.
+@Cacheable(sync = true) 로 조회하는 경우
+- 같은 키의 원본 조회는 노드 안에서 한 번만 실행되고, 다른 노드가 조회 중이면 그 결과를 기다린다.
+  (조회는 L1 밖에서 키별 CompletableFuture 로 묶으므로 L1의 다른 키 조회, 변경을 막지 않는다.)
+- L2 만료가 가까워지면 확률적으로 한 요청만 미리 원본을 다시 조회한다. (XFetch)
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private static final long LOCK_POLL_MILLIS = 20; // 다른 노드의 조회 결과 확인 간격
+
+    private final String name;
+    private final Cache<String, ValueWrapper> localCache; // L1
+    private final org.springframework.cache.Cache redisCache; // L2
+    private final TwoLevelCacheManager cacheManager; // 다른 노드에 변경 알림
+    private final Map<String, CompletableFuture<ValueWrapper>> loading = new ConcurrentHashMap<>(); // 키별 조회 중인 결과
+
+    // 단계별 hit/miss 횟수
+    private final LongAdder l1Hit = new LongAdder();
+    private final LongAdder l1Miss = new LongAdder();
+    private final LongAdder l2Hit = new LongAdder();
+    private final LongAdder l2Miss = new LongAdder();
+    private final LongAdder earlyRefresh = new LongAdder();
+
+    private volatile long loadMillis; // 최근 원본 조회에 걸린 시간 (조기 갱신 확률 계산에 사용)
+
+    public TwoLevelCache(String name, Cache<String, ValueWrapper> localCache, org.springframework.cache.Cache redisCache, TwoLevelCacheManager cacheManager) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            l1Hit.increment();
+            return local;
+        }
+        l1Miss.increment();
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote == null) {
+            l2Miss.increment();
+            return null;
+        }
+        l2Hit.increment();
+
+        ValueWrapper wrapper = new SimpleValueWrapper(remote.get());
+        localCache.put(localKey, wrapper);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다. " + type.getName() + " : " + value);
+        }
+
+        return (T) value;
+    }
+
+    // @Cacheable(sync = true) 에서 사용
+    // 같은 키에 대한 동시 요청 중 하나만 L2 또는 원본을 조회하고 나머지는 그 결과를 기다린다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            l1Hit.increment();
+            if (local instanceof LocalEntry entry && shouldRefreshEarly(entry) && entry.startRefresh()) {
+                return (T) refresh(key, localKey, entry, valueLoader);
+            }
+
+            return (T) local.get();
+        }
+
+        CompletableFuture<ValueWrapper> future = new CompletableFuture<>();
+        CompletableFuture<ValueWrapper> running = loading.putIfAbsent(localKey, future);
+        if (running != null) { // 다른 요청의 조회 결과를 기다림
+            return (T) await(running).get();
+        }
+
+        try {
+            ValueWrapper loaded = localCache.getIfPresent(localKey); // 확인 후 다른 요청이 조회를 마친 경우
+            if (loaded == null) {
+                loaded = load(key, localKey, valueLoader);
+                if (loading.get(localKey) == future) { // 조회 중 변경(evict, clear)된 경우 L1에 저장하지 않음
+                    localCache.put(localKey, loaded);
+                }
+            }
+            future.complete(loaded);
+            return (T) loaded.get();
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, future);
+        }
+    }
+
+    // 조회한 요청과 같은 예외를 던진다.
+    private static ValueWrapper await(CompletableFuture<ValueWrapper> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // L1에 없는 경우 L2 -> 원본 순서로 조회
+    private ValueWrapper load(Object key, String localKey, Callable<?> valueLoader) {
+        l1Miss.increment();
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote != null) {
+            l2Hit.increment();
+            return new LocalEntry(remote.get(), expireAt(localKey));
+        }
+        l2Miss.increment();
+
+        if (cacheManager.lockedByOtherNode(name, localKey)) {
+            ValueWrapper waited = waitForOtherNode(key);
+            if (waited != null) {
+                return new LocalEntry(waited.get(), expireAt(localKey));
+            }
+
+            return loadAndPut(key, localKey, valueLoader); // 기다려도 값이 없는 경우 직접 조회
+        }
+
+        try {
+            return loadAndPut(key, localKey, valueLoader);
+        } finally {
+            cacheManager.releaseLoadLock(name, localKey);
+        }
+    }
+
+    // 원본을 조회하여 L2에 저장
+    private LocalEntry loadAndPut(Object key, String localKey, Callable<?> valueLoader) {
+        long start = System.currentTimeMillis();
+        Object value = loadValue(key, valueLoader);
+        loadMillis = System.currentTimeMillis() - start;
+
+        redisCache.put(key, value);
+        return new LocalEntry(value, expireAt(localKey));
+    }
+
+    // 다른 노드가 원본을 조회하는 동안 L2에 저장되기를 기다린다.
+    private ValueWrapper waitForOtherNode(Object key) {
+        long deadline = System.currentTimeMillis() + cacheManager.getLoadLockTtl().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ValueWrapper remote = redisCache.get(key);
+            if (remote != null) {
+                l2Hit.increment();
+                return remote;
+            }
+        }
+
+        return null;
+    }
+
+    // 만료 전 조기 갱신 (다른 요청은 갱신이 끝날 때까지 기존 값을 사용)
+    private Object refresh(Object key, String localKey, LocalEntry entry, Callable<?> valueLoader) {
+        try {
+            LocalEntry refreshed = loadAndPut(key, localKey, valueLoader);
+            localCache.put(localKey, refreshed);
+            earlyRefresh.increment();
+            return refreshed.get();
+        } catch (RuntimeException e) {
+            entry.refreshing.set(false);
+            throw e;
+        }
+    }
+
+    // XFetch : 현재 시각 - 조회 시간 * beta * ln(random) >= 만료 시각 인 경우 미리 갱신
+    // 조회가 오래 걸릴수록, 만료가 가까울수록 갱신 확률이 높아진다.
+    private boolean shouldRefreshEarly(LocalEntry entry) {
+        double beta = cacheManager.getEarlyRefreshBeta();
+        if (beta <= 0 || entry.expireAt <= 0) {
+            return false;
+        }
+
+        double gap = -loadMillis * beta * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= entry.expireAt;
+    }
+
+    // L2 만료 시각 (조기 갱신을 사용하지 않거나 알 수 없는 경우 0)
+    private long expireAt(String localKey) {
+        if (cacheManager.getEarlyRefreshBeta() <= 0) {
+            return 0;
+        }
+
+        Duration ttl = cacheManager.getRemainingTtl(name, localKey);
+        return ttl != null ? System.currentTimeMillis() + ttl.toMillis() : 0;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        redisCache.put(key, value);
+        loading.remove(localKey); // 조회 중인 이전 값으로 덮어쓰지 않도록
+        localCache.put(localKey, new SimpleValueWrapper(value));
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    // 여러 키를 한 번에 저장
+    // L2 저장과 다른 노드 알림은 redis pipeline 으로 한 번에 전송한다.
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        entries.forEach((key, value) -> values.put(toLocalKey(key), value));
+
+        cacheManager.putAllRemote(name, values);
+        values.forEach((localKey, value) -> {
+            loading.remove(localKey);
+            localCache.put(localKey, new SimpleValueWrapper(value));
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        redisCache.evict(key);
+        evictLocal(localKey);
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    // 다른 노드에서 변경된 경우 L1만 비운다.
+    // 조회 중인 결과는 기다리는 요청에는 전달하되 L1에는 저장하지 않는다.
+    void evictLocal(String localKey) {
+        loading.remove(localKey);
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        loading.clear();
+        localCache.invalidateAll();
+    }
+
+    public long getL1HitCount() {
+        return l1Hit.sum();
+    }
+
+    public long getL1MissCount() {
+        return l1Miss.sum();
+    }
+
+    public long getL2HitCount() {
+        return l2Hit.sum();
+    }
+
+    public long getL2MissCount() {
+        return l2Miss.sum();
+    }
+
+    public long getEarlyRefreshCount() {
+        return earlyRefresh.sum();
+    }
+
+    // 노드 간 변경 알림에 사용할 수 있도록 L1 키는 문자열로 통일 (redis 캐시 키와 같은 형태)
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static <T> T loadValue(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    // 조기 갱신에 필요한 L2 만료 시각을 함께 보관하는 L1 값
+    private static final class LocalEntry extends SimpleValueWrapper {
+        private final long expireAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(); // 한 요청만 갱신하도록
+
+        private LocalEntry(Object value, long expireAt) {
+            super(value);
+            this.expireAt = expireAt;
+        }
+
+        private boolean startRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/*
+TwoLevelCache 를 만들고 노드 간 L1 무효화 메시지를 주고받는 캐시 매니저
+캐시가 변경되면 redis pub/sub 으로 알리고, 다른 노드에서 온 알림을 받으면 해당 L1만 비운다.
+측정 값 : cache.two_level.gets(캐시, 단계(l1, l2), 결과(hit, miss)별 조회 수), cache.two_level.early_refresh(조기 갱신 수)
+캐시는 처음 사용할 때 만들어지므로 측정 값도 그때 등록한다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, MeterBinder {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String SEPARATOR = "\n";
+    private static final String LOAD_LOCK_PREFIX = "cache:lock:";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, LocalCacheSpec> localCacheSpecs; // 캐시 이름별 L1 설정
+    private final LocalCacheSpec defaultLocalCacheSpec;
+    private final Duration loadLockTtl; // 노드 간 원본 조회 잠금 시간 (0 인 경우 잠그지 않음)
+    private final double earlyRefreshBeta; // 조기 갱신 강도 (0 인 경우 갱신하지 않음)
+
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 알림을 구분하기 위한 노드 아이디
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry; // 등록 전에 만들어진 캐시는 등록 시 함께 측정
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate, Map<String, LocalCacheSpec> localCacheSpecs, LocalCacheSpec defaultLocalCacheSpec,
+                                Duration loadLockTtl, double earlyRefreshBeta) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCacheSpecs = localCacheSpecs;
+        this.defaultLocalCacheSpec = defaultLocalCacheSpec;
+        this.loadLockTtl = loadLockTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    // 캐시 이름별 단계별 hit/miss 횟수
+    public Map<String, TwoLevelCache> getCaches() {
+        return caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        caches.values().forEach(cache -> bindCache(registry, cache));
+    }
+
+    private static void bindCache(MeterRegistry registry, TwoLevelCache cache) {
+        bindGets(registry, cache, "l1", "hit", TwoLevelCache::getL1HitCount);
+        bindGets(registry, cache, "l1", "miss", TwoLevelCache::getL1MissCount);
+        bindGets(registry, cache, "l2", "hit", TwoLevelCache::getL2HitCount);
+        bindGets(registry, cache, "l2", "miss", TwoLevelCache::getL2MissCount);
+        FunctionCounter.builder("cache.two_level.early_refresh", cache, TwoLevelCache::getEarlyRefreshCount)
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+
+    private static void bindGets(MeterRegistry registry, TwoLevelCache cache, String level, String result, ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.two_level.gets", cache, count)
+                .tags("cache", cache.getName(), "level", level, "result", result)
+                .register(registry);
+    }
+
+    // 다른 노드에서 온 L1 무효화 알림 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) { // 자신이 보낸 알림은 무시
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    // 여러 값을 L2에 저장하고 다른 노드에 알림 (하나의 pipeline 으로 전송)
+    void putAllRemote(String cacheName, Map<String, Object> values) {
+        RedisCacheConfiguration configuration = ((RedisCache) redisCacheManager.getCache(cacheName)).getCacheConfiguration();
+        byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> {
+                byte[] redisKey = (configuration.getKeyPrefixFor(cacheName) + key).getBytes(StandardCharsets.UTF_8);
+                byte[] redisValue = ByteUtils.getBytes(configuration.getValueSerializationPair().write(value));
+                Duration ttl = configuration.getTtlFunction().getTimeToLive(key, value);
+                Expiration expiration = ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+
+                connection.stringCommands().set(redisKey, redisValue, expiration, RedisStringCommands.SetOption.upsert());
+                connection.publish(channel, (nodeId + SEPARATOR + cacheName + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+            });
+            return null;
+        });
+    }
+
+    // 알림 실패는 L1 ttl 이 지나면 해소되므로 요청을 실패시키지 않는다.
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("캐시 무효화 알림 실패 = {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드가 같은 키를 원본에서 조회 중인지 확인하고, 아니라면 잠금을 잡는다.
+    // redis 장애 시에는 잠금 없이 조회하도록 false 를 반환한다.
+    boolean lockedByOtherNode(String cacheName, String key) {
+        if (loadLockTtl.isZero() || loadLockTtl.isNegative()) {
+            return false;
+        }
+
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOAD_LOCK_PREFIX + redisKey(cacheName, key), nodeId, loadLockTtl);
+            return Boolean.FALSE.equals(acquired);
+        } catch (RuntimeException e) {
+            log.error("캐시 조회 잠금 실패 = {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 자신이 잡은 잠금만 해제
+    void releaseLoadLock(String cacheName, String key) {
+        if (loadLockTtl.isZero() || loadLockTtl.isNegative()) {
+            return;
+        }
+
+        String lockKey = LOAD_LOCK_PREFIX + redisKey(cacheName, key);
+        try {
+            if (nodeId.equals(stringRedisTemplate.opsForValue().get(lockKey))) {
+                stringRedisTemplate.delete(lockKey);
+            }
+        } catch (RuntimeException e) {
+            log.error("캐시 조회 잠금 해제 실패 = {}", e.getMessage());
+        }
+    }
+
+    // L2 값의 남은 수명 (알 수 없는 경우 null)
+    Duration getRemainingTtl(String cacheName, String key) {
+        try {
+            Long ttl = stringRedisTemplate.getExpire(redisKey(cacheName, key), TimeUnit.MILLISECONDS);
+            return ttl != null && ttl > 0 ? Duration.ofMillis(ttl) : null;
+        } catch (RuntimeException e) {
+            log.error("캐시 수명 조회 실패 = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    Duration getLoadLockTtl() {
+        return loadLockTtl;
+    }
+
+    double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    // redis 에 저장되는 캐시 키 (cacheName::key)
+    private String redisKey(String cacheName, String key) {
+        RedisCache redisCache = (RedisCache) redisCacheManager.getCache(cacheName);
+        return redisCache.getCacheConfiguration().getKeyPrefixFor(cacheName) + key;
+    }
+
+    private TwoLevelCache createCache(String name) {
+        LocalCacheSpec spec = localCacheSpecs.getOrDefault(name, defaultLocalCacheSpec);
+        TwoLevelCache cache = new TwoLevelCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.maximumSize())
+                        .expireAfterWrite(spec.ttl())
+                        .build(),
+                redisCacheManager.getCache(name),
+                this);
+
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            bindCache(registry, cache);
+        }
+        return cache;
+    }
+
+    // L1 설정 (최대 개수, 수명)
+    public record LocalCacheSpec(long maximumSize, Duration ttl) {
+    }
+}
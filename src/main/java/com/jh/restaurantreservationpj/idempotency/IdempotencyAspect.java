@@ -0,0 +1,190 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.auth.TokenProvider;
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyErrorCode;
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/*
+@Idempotent 메소드를 Idempotency-Key 별로 한 번만 실행
+- 키는 회원, 메소드 별로 구분하고, 요청 본문의 해시와 함께 저장한다.
+- 처음 요청이 성공하면 응답을 ttl 동안 저장하고, 같은 키의 요청에는 저장한 응답을 Idempotent-Replayed 헤더와 함께 돌려준다.
+- 처음 요청이 실패하면 키를 지워 다시 처리할 수 있게 한다.
+- 같은 키의 요청이 동시에 오면 한 요청만 실행하고 나머지는 결과를 기다린다.
+  같은 서버의 요청은 실행 중인 요청이 끝나기를 기다리고, 다른 서버에서 실행 중인 경우 저장소를 주기적으로 확인한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[A-Za-z0-9_-]{1,64}$");
+    private static final long POLL_INTERVAL = 50; // 다른 서버의 처리 결과를 확인하는 주기(ms)
+
+    private final IdempotencyStore idempotencyStore;
+    private final TokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+
+    // 이 서버에서 실행 중인 요청
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl:86400}")
+    private long ttl; // 처리한 응답을 보관하는 시간(초)
+
+    @Value("${idempotency.lock-ttl:30}")
+    private long lockTtl; // 처리 중 표시를 유지하는 최대 시간(초)
+
+    @Value("${idempotency.wait-timeout:10000}")
+    private long waitTimeout; // 같은 키의 요청이 끝나기를 기다리는 최대 시간(ms)
+
+    @Around("@annotation(com.jh.restaurantreservationpj.idempotency.Idempotent)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return joinPoint.proceed();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey == null) {
+            return joinPoint.proceed();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new IdempotencyException(IdempotencyErrorCode.NOT_VALID_KEY);
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String key = KEY_PREFIX + method.getDeclaringClass().getSimpleName() + "." + method.getName() + ":"
+                + tokenProvider.getUserId(request) + ":" + idempotencyKey;
+        String fingerprint = fingerprint(joinPoint.getArgs());
+
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running;
+        while ((running = inFlight.putIfAbsent(key, mine)) != null) {
+            await(running);
+        }
+
+        try {
+            return proceedOnce(joinPoint, method, key, fingerprint, attributes.getResponse());
+        } finally {
+            inFlight.remove(key, mine);
+            mine.complete(null);
+        }
+    }
+
+    private Object proceedOnce(ProceedingJoinPoint joinPoint, Method method, String key, String fingerprint, HttpServletResponse response) throws Throwable {
+        long deadline = System.currentTimeMillis() + waitTimeout;
+        while (!idempotencyStore.tryStart(key, fingerprint, Duration.ofSeconds(lockTtl))) {
+            IdempotencyRecord record = idempotencyStore.get(key);
+            if (record != null) {
+                if (!record.fingerprint().equals(fingerprint)) {
+                    throw new IdempotencyException(IdempotencyErrorCode.KEY_REUSED);
+                }
+                if (record.completed()) {
+                    return replay(method, record, response);
+                }
+            }
+
+            // 다른 서버에서 처리 중
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyException(IdempotencyErrorCode.IN_PROGRESS);
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+
+        idempotencyStore.complete(key, toRecord(fingerprint, result), Duration.ofSeconds(ttl));
+        return result;
+    }
+
+    // 이 서버에서 실행 중인 같은 키의 요청이 끝날 때까지 대기
+    private void await(CompletableFuture<Void> running) {
+        try {
+            running.get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(IdempotencyErrorCode.IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(IdempotencyErrorCode.IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 실행 결과는 저장소에서 확인
+        }
+    }
+
+    private IdempotencyRecord toRecord(String fingerprint, Object result) throws JsonProcessingException {
+        if (result instanceof ResponseEntity<?> entity) {
+            return IdempotencyRecord.completed(fingerprint, entity.getStatusCode().value(), objectMapper.writeValueAsString(entity.getBody()));
+        }
+        return IdempotencyRecord.completed(fingerprint, 200, objectMapper.writeValueAsString(result));
+    }
+
+    // 저장한 응답을 메소드 반환 타입으로 복원
+    private Object replay(Method method, IdempotencyRecord record, HttpServletResponse response) throws JsonProcessingException {
+        if (response != null) {
+            response.setHeader(REPLAYED_HEADER, "true");
+        }
+
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+        if (ResponseEntity.class.isAssignableFrom(returnType.toClass())) {
+            JavaType bodyType = objectMapper.constructType(returnType.getGeneric(0).getType());
+            return ResponseEntity.status(record.status()).body(objectMapper.readValue(record.body(), bodyType));
+        }
+        return objectMapper.readValue(record.body(), objectMapper.constructType(returnType.getType()));
+    }
+
+    // 요청 본문 등 메소드 파라미터의 SHA-256 해시
+    private String fingerprint(Object[] args) throws JsonProcessingException {
+        Object[] values = Arrays.stream(args)
+                .filter(arg -> !(arg instanceof ServletRequest) && !(arg instanceof ServletResponse))
+                .toArray();
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(values)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
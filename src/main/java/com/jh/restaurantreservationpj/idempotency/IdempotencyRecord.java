@@ -0,0 +1,17 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+/*
+Idempotency-Key 로 저장하는 요청 처리 결과
+fingerprint : 요청 본문의 해시 (같은 키를 다른 요청에 다시 사용했는지 확인)
+completed 가 false 인 경우 처리 중이고, true 인 경우 status, body 에 처음 응답이 저장되어 있다.
+ */
+public record IdempotencyRecord(String fingerprint, boolean completed, int status, String body) {
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, false, 0, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String body) {
+        return new IdempotencyRecord(fingerprint, true, status, body);
+    }
+}
@@ -0,0 +1,18 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import java.time.Duration;
+
+// Idempotency-Key 별 처리 결과 저장소
+public interface IdempotencyStore {
+
+    // 키가 없는 경우에만 처리 중으로 저장 (처리할 권한을 얻은 경우 true)
+    boolean tryStart(String key, String fingerprint, Duration lockTtl);
+
+    IdempotencyRecord get(String key);
+
+    // 처리가 끝난 응답 저장
+    void complete(String key, IdempotencyRecord record, Duration ttl);
+
+    // 처리에 실패한 경우 키를 지워 재시도할 수 있게 함
+    void release(String key);
+}
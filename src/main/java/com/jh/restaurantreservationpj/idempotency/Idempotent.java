@@ -0,0 +1,16 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+Idempotency-Key 헤더로 같은 요청의 재시도를 한 번만 처리하는 컨트롤러 메소드에 표시
+- 처음 요청의 응답을 저장해두고, 같은 키로 다시 온 요청에는 저장한 응답을 그대로 돌려준다.
+- 헤더가 없는 요청은 그대로 처리한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
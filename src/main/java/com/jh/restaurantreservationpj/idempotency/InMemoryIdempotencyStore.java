@@ -0,0 +1,58 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 처리 결과를 메모리에 저장 (테스트, 서버 한 대로 실행하는 경우)
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record Entry(IdempotencyRecord record, long expireAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expireAt;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryStart(String key, String fingerprint, Duration lockTtl) {
+        Entry started = new Entry(IdempotencyRecord.inProgress(fingerprint), System.currentTimeMillis() + lockTtl.toMillis());
+        return entries.compute(key, (k, entry) -> entry == null || entry.isExpired() ? started : entry) == started;
+    }
+
+    @Override
+    public IdempotencyRecord get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.record();
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        entries.put(key, new Entry(record, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.remove(key);
+    }
+
+    // 만료된 키 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,74 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+처리 결과를 redis 에 저장 (여러 서버가 같은 키를 공유)
+처리 중 표시는 SET NX 로 한 요청만 저장하고, lock-ttl 이 지나면 사라지므로 처리 중 서버가 죽어도 키가 남지 않는다.
+redis 장애 시에는 중복 확인 없이 요청을 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "redis", matchIfMissing = true)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean tryStart(String key, String fingerprint, Duration lockTtl) {
+        try {
+            Boolean started = stringRedisTemplate.opsForValue().setIfAbsent(key, write(IdempotencyRecord.inProgress(fingerprint)), lockTtl);
+            return Boolean.TRUE.equals(started);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 저장 실패, 중복 확인 없이 처리 = {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public IdempotencyRecord get(String key) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Idempotency-Key 조회 실패 = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, write(record), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 응답 저장 실패 = {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 삭제 실패 = {}", e.getMessage());
+        }
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.jh.restaurantreservationpj.idempotency.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum IdempotencyErrorCode {
+    NOT_VALID_KEY(400, "잘못된 Idempotency-Key 입니다. (영문, 숫자, -, _ 로 1~64자)"),
+    IN_PROGRESS(400, "같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    KEY_REUSED(400, "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+
+    private final int status;
+    private final String message;
+}
@@ -0,0 +1,14 @@
+package com.jh.restaurantreservationpj.idempotency.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    private final IdempotencyErrorCode idempotencyErrorCode;
+
+    public IdempotencyException(IdempotencyErrorCode idempotencyErrorCode) {
+        super(idempotencyErrorCode.getMessage());
+        this.idempotencyErrorCode = idempotencyErrorCode;
+    }
+}
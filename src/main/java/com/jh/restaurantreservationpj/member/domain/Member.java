@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.member.domain;
 
 import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
 import com.jh.restaurantreservationpj.member.dto.MemberSignInDto;
 import jakarta.persistence.*;
 import lombok.*;
@@ -19,12 +20,12 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@SQLDelete(sql = "UPDATE restaurant SET del_date = now() WHERE id=?")
+@SQLDelete(sql = "UPDATE member SET del_date = now() WHERE id=?")
 @SQLRestriction("del_date IS NULL")
 public class Member extends BaseTimeEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -1,5 +1,6 @@
 package com.jh.restaurantreservationpj.member.domain;
 
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,7 @@ import lombok.*;
 public class MemberRole {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,5 @@
+package com.jh.restaurantreservationpj.member.event;
+
+// 회원의 권한이 바뀐 경우 발행 (토큰으로 인증할 때 기억해둔 권한을 지우도록)
+public record MemberRolesChangedEvent(String userId) {
+}
@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.member.repository;
 
 import com.jh.restaurantreservationpj.member.domain.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,5 +9,8 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUserId(String userId); // 회원 아이디를 통해 회원 찾기
 
+    @EntityGraph(attributePaths = "memberRoles")
+    Optional<Member> findWithMemberRolesByUserId(String userId); // 회원 아이디를 통해 권한까지 함께 조회
+
     boolean existsByUserId(String userId); // 회원 아이디 중복 확인
 }
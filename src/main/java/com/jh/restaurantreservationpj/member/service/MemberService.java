@@ -27,9 +27,11 @@ public class MemberService implements UserDetailsService {
     private final PasswordEncoder passwordEncoder;
 
     // 회원 정보 조회 서비스
+    // 트랜잭션 밖에서 권한을 사용할 수 있도록 권한까지 함께 조회
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) {
-        return memberRepository.findByUserId(username).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+        return memberRepository.findWithMemberRolesByUserId(username).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
     }
 
     // 회원가입 서비스
@@ -0,0 +1,34 @@
+package com.jh.restaurantreservationpj.notification.domain;
+
+import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 재시도 횟수를 넘기거나 대기열에 넣지 못해 보내지 못한 알림 (원인 확인 후 다시 보내기 위해 보관)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class NotificationDeadLetter extends BaseTimeEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String channel; // 알림 채널
+
+    @Column(nullable = false)
+    private String reservationNumber; // 예약 번호
+
+    @Column(length = 4000, nullable = false)
+    private String payload; // 알림 내용 (json)
+
+    @Column(nullable = false)
+    private int attempts; // 전송 시도 횟수
+
+    @Column(length = 1000)
+    private String lastError; // 마지막 실패 이유
+}
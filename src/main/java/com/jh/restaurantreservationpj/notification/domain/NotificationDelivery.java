@@ -0,0 +1,44 @@
+package com.jh.restaurantreservationpj.notification.domain;
+
+import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+채널별 전송 대기 알림
+outbox 이벤트 발행과 같은 트랜잭션으로 저장하므로 발행이 롤백되면 함께 사라지고, 서버가 재시작되어도 남는다.
+전송 스레드가 가져가면 nextAttemptAt 을 lease 만큼 미뤄 다른 서버가 가져가지 않게 하고, 전송에 성공하면 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(indexes = @Index(name = "idx_notification_delivery_due", columnList = "channel, next_attempt_at")) // 채널별 전송할 알림 조회용
+public class NotificationDelivery extends BaseTimeEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String channel; // 알림 채널
+
+    @Column(nullable = false)
+    private String reservationNumber; // 예약 번호
+
+    @Column(length = 4000, nullable = false)
+    private String payload; // 알림 내용 (json)
+
+    @Column(nullable = false)
+    private int attempts; // 전송 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 전송 시도 날짜
+
+    @Column(length = 1000)
+    private String lastError; // 마지막 실패 이유
+}
@@ -0,0 +1,7 @@
+package com.jh.restaurantreservationpj.notification.domain;
+
+import java.time.LocalDateTime;
+
+// 회원에게 보내는 예약 상태 변경 알림
+public record NotificationMessage(Long memberId, String reservationNumber, String eventType, String message, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,13 @@
+package com.jh.restaurantreservationpj.notification.repository;
+
+import com.jh.restaurantreservationpj.notification.domain.NotificationDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, Long> {
+
+    List<NotificationDeadLetter> findByReservationNumber(String reservationNumber);
+}
@@ -0,0 +1,39 @@
+package com.jh.restaurantreservationpj.notification.repository;
+
+import com.jh.restaurantreservationpj.notification.domain.NotificationDelivery;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationDeliveryRepository extends JpaRepository<NotificationDelivery, Long> {
+
+    // 채널의 전송할 때가 된 알림을 오래된 순으로 잠그며 조회
+    // 다른 서버가 잠근 알림은 기다리지 않고 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select d from NotificationDelivery d where d.channel = :channel and d.nextAttemptAt <= :now order by d.nextAttemptAt, d.id")
+    List<NotificationDelivery> claimDue(@Param("channel") String channel, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전송 중인 알림을 lease 가 끝날 때까지 다른 서버가 가져가지 않도록 미룸 (서버가 중단되면 lease 후 다시 전송)
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationDelivery d set d.nextAttemptAt = :until, d.chgDate = :now where d.id in :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    // 전송에 실패한 알림의 시도 횟수와 다음 전송 시도 날짜 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationDelivery d set d.attempts = :attempts, d.nextAttemptAt = :next, d.lastError = :error, d.chgDate = :now where d.id in :ids")
+    int retry(@Param("ids") List<Long> ids, @Param("attempts") int attempts, @Param("next") LocalDateTime next, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from NotificationDelivery d where d.id in :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    long countByChannel(String channel);
+}
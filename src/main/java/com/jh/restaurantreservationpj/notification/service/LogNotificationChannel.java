@@ -0,0 +1,27 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// email, sms 발송 연동 전까지 사용하는 채널 (알림 내용을 로그로만 남김)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.log.enabled", havingValue = "true", matchIfMissing = true)
+public class LogNotificationChannel implements NotificationChannel {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void send(List<NotificationMessage> messages) {
+        for (NotificationMessage message : messages) {
+            log.info("예약 알림 = 회원 {}, 예약 {}, {}", message.memberId(), message.reservationNumber(), message.message());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+
+import java.util.List;
+
+// 알림 전송 채널 (webhook, email, sms ...)
+// 묶음 전송에 실패하면 예외를 던진다. (묶음 전체를 다시 보낸다.)
+public interface NotificationChannel {
+
+    String getName();
+
+    void send(List<NotificationMessage> messages);
+}
@@ -0,0 +1,310 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.notification.domain.NotificationDeadLetter;
+import com.jh.restaurantreservationpj.notification.domain.NotificationDelivery;
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+import com.jh.restaurantreservationpj.notification.repository.NotificationDeadLetterRepository;
+import com.jh.restaurantreservationpj.notification.repository.NotificationDeliveryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/*
+알림 채널별 전송 스레드
+- dispatch 는 채널마다 전송 대기 알림(NotificationDelivery)을 저장하기만 하므로 호출한 스레드를 막지 않는다.
+  outbox 발행 트랜잭션 안에서 저장하므로 발행이 롤백되면 알림도 남지 않고, 서버가 재시작되어도 보내지 않은 알림은 남는다.
+- 전송 스레드는 전송할 때가 된 알림을 batch-size 만큼 가져가 lease 동안 다른 서버가 가져가지 않게 한 뒤 채널로 보내고, 성공하면 삭제한다.
+  전송 후 삭제 전에 서버가 중단되면 lease 가 지난 뒤 다시 보낸다. (최소 한 번 전달)
+- 실패한 알림은 backoff * 2^(시도 횟수 - 1) (최대 max-backoff) 후 다시 보내고,
+  max-attempts 를 넘긴 경우 NotificationDeadLetter 로 옮긴다.
+한 채널이 느리거나 실패해도 다른 채널의 전송은 영향을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final List<NotificationChannel> channels;
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize; // 한 번에 보내는 최대 알림 수
+    private final int maxAttempts; // 최대 전송 시도 횟수
+    private final long backoff; // 첫 재시도 대기 시간(ms)
+    private final long maxBackoff; // 최대 재시도 대기 시간(ms)
+    private final long lease; // 가져간 알림을 다른 서버가 가져가지 않는 시간(ms), 채널 전송 시간보다 길어야 한다.
+    private final long pollInterval; // 전송할 알림이 없을 때 다시 확인하기까지 기다리는 시간(ms)
+
+    private final Map<String, Worker> workers = new LinkedHashMap<>();
+
+    public NotificationDispatcher(List<NotificationChannel> channels, NotificationDeliveryRepository notificationDeliveryRepository,
+                                  NotificationDeadLetterRepository notificationDeadLetterRepository, TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${notification.batch-size:100}") int batchSize,
+                                  @Value("${notification.max-attempts:5}") int maxAttempts,
+                                  @Value("${notification.backoff:1000}") long backoff,
+                                  @Value("${notification.max-backoff:60000}") long maxBackoff,
+                                  @Value("${notification.lease:30000}") long lease,
+                                  @Value("${notification.poll-interval:1000}") long pollInterval) {
+        this.channels = channels;
+        this.notificationDeliveryRepository = notificationDeliveryRepository;
+        this.notificationDeadLetterRepository = notificationDeadLetterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        for (NotificationChannel channel : channels) {
+            Worker worker = new Worker(channel);
+            workers.put(channel.getName(), worker);
+            worker.thread.start();
+        }
+    }
+
+    // 보내지 못한 알림은 저장된 채로 남아 다음 실행(또는 다른 서버)에서 보낸다.
+    @PreDestroy
+    void stop() {
+        for (Worker worker : workers.values()) {
+            worker.thread.interrupt();
+        }
+        for (Worker worker : workers.values()) {
+            try {
+                worker.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void dispatch(NotificationMessage message) {
+        dispatchAll(List.of(message));
+    }
+
+    // 모든 채널의 전송 대기 알림으로 저장 (트랜잭션 안에서는 커밋 후 전송 스레드를 깨운다.)
+    public void dispatchAll(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationDelivery> deliveries = new ArrayList<>();
+        for (NotificationMessage message : messages) {
+            String payload = toJson(message);
+            for (NotificationChannel channel : channels) {
+                deliveries.add(NotificationDelivery.builder()
+                        .channel(channel.getName())
+                        .reservationNumber(message.reservationNumber())
+                        .payload(payload)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+        }
+        notificationDeliveryRepository.saveAll(deliveries);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            workers.values().forEach(Worker::wakeUp);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                workers.values().forEach(Worker::wakeUp);
+            }
+        });
+    }
+
+    // 채널의 전송 대기 알림 수
+    public long pending(String channelName) {
+        return notificationDeliveryRepository.countByChannel(channelName);
+    }
+
+    // n 번째 실패 후 다시 보내기까지 기다리는 시간 (여러 알림이 동시에 재시도하지 않도록 절반까지 무작위로 줄임)
+    long retryDelay(int attempts) {
+        long delay = backoff << Math.min(attempts - 1, 30);
+        if (delay <= 0 || delay > maxBackoff) {
+            delay = maxBackoff;
+        }
+        return delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private final class Worker implements Runnable {
+
+        private final NotificationChannel channel;
+        private final BlockingQueue<Boolean> signal = new ArrayBlockingQueue<>(1); // 새 알림 저장 알림
+        private final Thread thread;
+        private final Counter sentCounter;
+        private final Counter retryCounter;
+        private final Counter deadLetterCounter;
+
+        private Worker(NotificationChannel channel) {
+            this.channel = channel;
+            this.thread = new CustomizableThreadFactory("notification-" + channel.getName() + "-").newThread(this);
+            this.thread.setDaemon(true);
+            this.sentCounter = meterRegistry.counter("notification.sent", "channel", channel.getName());
+            this.retryCounter = meterRegistry.counter("notification.retried", "channel", channel.getName());
+            this.deadLetterCounter = meterRegistry.counter("notification.dead_letter", "channel", channel.getName());
+        }
+
+        private void wakeUp() {
+            signal.offer(Boolean.TRUE);
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<NotificationDelivery> batch;
+                try {
+                    batch = claim();
+                } catch (RuntimeException e) {
+                    log.error("알림 조회 실패 = 채널 {}, {}", channel.getName(), e.getMessage());
+                    batch = List.of();
+                }
+
+                if (batch.isEmpty()) {
+                    try {
+                        signal.poll(pollInterval, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    continue;
+                }
+
+                send(batch);
+            }
+        }
+
+        // 전송할 때가 된 알림을 가져가고 lease 동안 다른 서버가 가져가지 않게 한다.
+        private List<NotificationDelivery> claim() {
+            List<NotificationDelivery> claimed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<NotificationDelivery> due = notificationDeliveryRepository.claimDue(channel.getName(), now, PageRequest.of(0, batchSize));
+                if (!due.isEmpty()) {
+                    notificationDeliveryRepository.lease(ids(due), now.plusNanos(lease * 1_000_000), now);
+                }
+                return due;
+            });
+
+            return claimed == null ? List.of() : claimed;
+        }
+
+        // 저장 결과 반영에 실패한 알림은 lease 가 지난 뒤 다시 보낸다.
+        private void send(List<NotificationDelivery> batch) {
+            List<NotificationDelivery> deliveries = new ArrayList<>(batch.size());
+            List<NotificationMessage> messages = new ArrayList<>(batch.size());
+            for (NotificationDelivery delivery : batch) {
+                try {
+                    messages.add(objectMapper.readValue(delivery.getPayload(), NotificationMessage.class));
+                    deliveries.add(delivery);
+                } catch (JsonProcessingException e) { // 다시 보내도 실패하므로 바로 dead letter 로 옮김
+                    deadLetter(List.of(delivery), delivery.getAttempts(), "알림 형식 오류 = " + e.getMessage());
+                }
+            }
+            if (deliveries.isEmpty()) {
+                return;
+            }
+
+            try {
+                channel.send(messages);
+            } catch (RuntimeException e) {
+                log.warn("알림 전송 실패 = 채널 {}, {}건, {}", channel.getName(), deliveries.size(), e.getMessage());
+                retry(deliveries, e.getMessage());
+                return;
+            }
+
+            sentCounter.increment(deliveries.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> notificationDeliveryRepository.deleteAllByIds(ids(deliveries)));
+            } catch (RuntimeException e) {
+                log.error("전송한 알림 삭제 실패 = 채널 {}, {}건, {}", channel.getName(), deliveries.size(), e.getMessage());
+            }
+        }
+
+        // 시도 횟수가 같은 알림끼리 묶어 한 번에 다음 전송 시도 날짜 변경
+        private void retry(List<NotificationDelivery> batch, String error) {
+            Map<Integer, List<NotificationDelivery>> byAttempts = batch.stream()
+                    .collect(Collectors.groupingBy(delivery -> delivery.getAttempts() + 1));
+
+            byAttempts.forEach((attempts, deliveries) -> {
+                if (attempts >= maxAttempts) {
+                    deadLetter(deliveries, attempts, error);
+                    return;
+                }
+
+                try {
+                    LocalDateTime now = LocalDateTime.now();
+                    LocalDateTime next = now.plusNanos(retryDelay(attempts) * 1_000_000);
+                    transactionTemplate.executeWithoutResult(status ->
+                            notificationDeliveryRepository.retry(ids(deliveries), attempts, next, truncate(error), now));
+                    retryCounter.increment(deliveries.size());
+                } catch (RuntimeException e) {
+                    log.error("알림 재시도 저장 실패 = 채널 {}, {}건, {}", channel.getName(), deliveries.size(), e.getMessage());
+                }
+            });
+        }
+
+        // 보내지 못한 알림을 dead letter 로 옮김
+        private void deadLetter(List<NotificationDelivery> deliveries, int attempts, String error) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    notificationDeadLetterRepository.saveAll(deliveries.stream()
+                            .map(delivery -> NotificationDeadLetter.builder()
+                                    .channel(channel.getName())
+                                    .reservationNumber(delivery.getReservationNumber())
+                                    .payload(delivery.getPayload())
+                                    .attempts(attempts)
+                                    .lastError(truncate(error))
+                                    .build())
+                            .toList());
+                    notificationDeliveryRepository.deleteAllByIds(ids(deliveries));
+                });
+                deadLetterCounter.increment(deliveries.size());
+            } catch (RuntimeException e) {
+                log.error("알림 dead letter 저장 실패 = 채널 {}, {}건, {}", channel.getName(), deliveries.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static List<Long> ids(List<NotificationDelivery> deliveries) {
+        return deliveries.stream().map(NotificationDelivery::getId).toList();
+    }
+
+    private static String truncate(String error) {
+        return error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+    }
+
+    private String toJson(NotificationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 변환 실패 = " + message.reservationNumber(), e);
+        }
+    }
+}
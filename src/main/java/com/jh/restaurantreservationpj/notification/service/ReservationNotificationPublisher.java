@@ -0,0 +1,74 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import com.jh.restaurantreservationpj.outbox.service.OutboxPublisher;
+import com.jh.restaurantreservationpj.reservation.dto.CheckForMemberReservationDto;
+import com.jh.restaurantreservationpj.reservation.event.ReservationChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+outbox 로 발행되는 예약 이벤트 중 회원에게 알릴 이벤트를 NotificationDispatcher 에 넘김
+요청 스레드가 아닌 OutboxRelay 에서 실행되므로 알림 채널이 느려도 예약 승인, 거절 요청은 기다리지 않는다.
+전송 대기 알림은 발행 트랜잭션 안에서 저장되므로 발행이 실패하여 묶음을 다시 보내도 알림이 중복되지 않는다.
+다른 발행이 모두 성공한 뒤 마지막에 실행하여 실패할 발행을 위해 알림을 저장하지 않게 한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ReservationNotificationPublisher implements OutboxPublisher {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final ObjectMapper objectMapper;
+    private final Set<String> eventTypes; // 알림을 보낼 이벤트 종류
+
+    public ReservationNotificationPublisher(NotificationDispatcher notificationDispatcher, ObjectMapper objectMapper,
+                                            @Value("${notification.event-types:ACCEPTED,DENIED,AUTO_CANCELED}") Set<String> eventTypes) {
+        this.notificationDispatcher = notificationDispatcher;
+        this.objectMapper = objectMapper;
+        this.eventTypes = eventTypes;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        List<NotificationMessage> messages = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (!ReservationChangedEvent.AGGREGATE_TYPE.equals(event.getAggregateType()) || !eventTypes.contains(event.getEventType())) {
+                continue;
+            }
+
+            ReservationChangedEvent changed;
+            try {
+                changed = objectMapper.readValue(event.getPayload(), ReservationChangedEvent.class);
+            } catch (JsonProcessingException e) { // 다시 보내도 실패하므로 건너뜀
+                log.error("예약 이벤트 형식 오류 = {}, {}", event.getId(), e.getMessage());
+                continue;
+            }
+
+            messages.add(new NotificationMessage(changed.memberId(), changed.reservationNumber(), event.getEventType(),
+                    message(changed), changed.occurredAt()));
+        }
+
+        notificationDispatcher.dispatchAll(messages);
+    }
+
+    private static String message(ReservationChangedEvent changed) {
+        return switch (changed.status()) {
+            case ACCEPTED -> CheckForMemberReservationDto.DetailMessage.ACCEPT.getMessage();
+            case DENIED -> CheckForMemberReservationDto.DetailMessage.DENY.getMessage() + " (" + changed.message() + ")";
+            case CANCELED, AUTO_CANCELED -> CheckForMemberReservationDto.DetailMessage.CANCEL.getMessage() + " (" + changed.message() + ")";
+            case VISITED -> CheckForMemberReservationDto.DetailMessage.VISIT.getMessage();
+            case PENDING -> CheckForMemberReservationDto.DetailMessage.WAIT.getMessage();
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+// 알림 묶음을 json 배열로 webhook 주소에 전송 (2xx 가 아닌 응답은 실패)
+@Component
+@ConditionalOnProperty(name = "notification.webhook.url")
+public class WebhookNotificationChannel implements NotificationChannel {
+
+    private final RestClient restClient;
+
+    public WebhookNotificationChannel(@Value("${notification.webhook.url}") String url,
+                                      @Value("${notification.webhook.timeout:3000}") int timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout); // 느린 수신 서버가 전송 스레드를 오래 잡지 않도록 제한
+
+        this.restClient = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(List<NotificationMessage> messages) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(messages)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,40 @@
+package com.jh.restaurantreservationpj.outbox.domain;
+
+import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+도메인 상태 변경과 같은 트랜잭션으로 저장하는 이벤트
+OutboxRelay 가 발행되지 않은 이벤트를 순서대로 가져가 외부로 발행한 뒤 publishedAt 을 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(indexes = @Index(name = "idx_outbox_event_published", columnList = "published_at, id")) // 발행 대기 이벤트 조회용
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType; // 이벤트가 발생한 대상 종류 (reservation)
+
+    @Column(nullable = false)
+    private String aggregateId; // 대상 식별자 (예약 번호)
+
+    @Column(nullable = false, length = 50)
+    private String eventType; // 이벤트 종류
+
+    @Column(length = 4000, nullable = false)
+    private String payload; // 이벤트 내용 (json)
+
+    @Column
+    private LocalDateTime publishedAt; // 발행 날짜 (발행 전 null)
+}
@@ -0,0 +1,34 @@
+package com.jh.restaurantreservationpj.outbox.repository;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행되지 않은 이벤트를 오래된 순으로 잠그며 조회
+    // 다른 서버가 잠근 이벤트는 기다리지 않고 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.publishedAt is null order by e.id")
+    List<OutboxEvent> claimUnpublished(Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.publishedAt = :now, e.chgDate = :now where e.id in :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 발행된 이벤트 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    long countByPublishedAtIsNull();
+}
@@ -0,0 +1,45 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 발행된 outbox 이벤트를 메모리에 보관 (테스트, redis 없는 로컬 실행용)
+@Component
+@Order(0) // 외부 발행이 성공한 뒤 알림 등 후속 처리를 실행
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    public static final String FAIL_MESSAGE = "outbox 이벤트 발행 실패";
+
+    private final ConcurrentLinkedQueue<OutboxEvent> published = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean failNext = new AtomicBoolean();
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        if (failNext.compareAndSet(true, false)) {
+            throw new IllegalStateException(FAIL_MESSAGE);
+        }
+
+        published.addAll(events);
+    }
+
+    // 다음 발행을 한 번 실패시킴 (발행 실패 확인용)
+    public void failNext() {
+        failNext.set(true);
+    }
+
+    public List<OutboxEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
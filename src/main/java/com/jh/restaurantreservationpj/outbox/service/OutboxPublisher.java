@@ -0,0 +1,12 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+
+import java.util.List;
+
+// outbox 이벤트를 외부로 전달
+// 전달에 실패하면 예외를 던진다. (이벤트는 발행되지 않은 상태로 남아 다음 실행에서 다시 전달된다.)
+public interface OutboxPublisher {
+
+    void publish(List<OutboxEvent> events);
+}
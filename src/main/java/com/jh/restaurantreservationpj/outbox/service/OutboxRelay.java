@@ -0,0 +1,118 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import com.jh.restaurantreservationpj.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+발행되지 않은 outbox 이벤트를 묶음 단위로 가져가 등록된 OutboxPublisher 들로 발행
+- 묶음마다 하나의 트랜잭션으로 잠금 조회(SKIP LOCKED) -> 발행 -> 발행 날짜 기록
+- 여러 서버가 동시에 실행해도 서로 다른 이벤트를 나누어 처리한다.
+- 발행 중 실패하면 트랜잭션이 롤백되어 다음 실행에서 다시 발행한다. (최소 한 번 전달)
+측정 값 : outbox.relay.published(발행 수), outbox.relay.failures(실패 수), outbox.relay.batch(묶음 처리 시간),
+         outbox.relay.lag(저장부터 발행까지 걸린 시간), outbox.relay.oldest.age(마지막으로 가져간 가장 오래된 이벤트의 대기 시간)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxPublisher> outboxPublishers; // 순서대로 발행 (@Order)
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize; // 한 번에 가져가는 이벤트 수
+
+    @Value("${outbox.relay.max-batches:20}")
+    private int maxBatches; // 한 번 실행에 처리하는 최대 묶음 수 (다른 스케줄 작업이 밀리지 않도록 제한)
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours; // 발행된 이벤트 보관 시간
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxPublisher> outboxPublishers, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublishers = outboxPublishers;
+        this.transactionTemplate = transactionTemplate;
+        this.publishedCounter = meterRegistry.counter("outbox.relay.published");
+        this.failureCounter = meterRegistry.counter("outbox.relay.failures");
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        this.lagTimer = meterRegistry.timer("outbox.relay.lag");
+        Gauge.builder("outbox.relay.oldest.age", oldestAgeMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        for (int i = 0; i < maxBatches; i++) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                log.error("outbox 이벤트 발행 실패 = {}", e.getMessage());
+                return;
+            }
+
+            if (relayed < batchSize) { // 남은 이벤트 없음
+                return;
+            }
+        }
+    }
+
+    // 이벤트 한 묶음 발행 후 발행한 이벤트 수 반환
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> batchTimer.record(() -> {
+            List<OutboxEvent> events = outboxEventRepository.claimUnpublished(PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                oldestAgeMillis.set(0);
+                return 0;
+            }
+
+            for (OutboxPublisher outboxPublisher : outboxPublishers) {
+                outboxPublisher.publish(events);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), now);
+
+            for (OutboxEvent event : events) {
+                lagTimer.record(Duration.between(event.getRegDate(), now));
+            }
+            oldestAgeMillis.set(Duration.between(events.get(0).getRegDate(), now).toMillis());
+            publishedCounter.increment(events.size());
+
+            return events.size();
+        }));
+
+        return relayed == null ? 0 : relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval:3600000}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행된 outbox 이벤트 삭제 = {}건", deleted);
+        }
+    }
+}
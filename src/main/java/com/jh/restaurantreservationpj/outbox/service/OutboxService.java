@@ -0,0 +1,51 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import com.jh.restaurantreservationpj.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 상태를 변경하는 트랜잭션 안에서 outbox 이벤트 저장 (상태 변경과 함께 커밋되거나 롤백된다.)
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(String aggregateType, String aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(toOutboxEvent(aggregateType, aggregateId, eventType, payload));
+    }
+
+    // 같은 종류의 이벤트 여러 건 저장 (insert 를 batch 로 묶음)
+    public <T> void appendAll(String aggregateType, String eventType, List<T> payloads, Function<T, String> aggregateId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        outboxEventRepository.saveAll(payloads.stream()
+                .map(payload -> toOutboxEvent(aggregateType, aggregateId.apply(payload), eventType, payload))
+                .toList());
+    }
+
+    private OutboxEvent toOutboxEvent(String aggregateType, String aggregateId, String eventType, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 변환 실패 = " + eventType, e);
+        }
+    }
+}
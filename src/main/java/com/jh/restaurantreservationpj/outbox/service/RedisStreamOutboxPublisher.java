@@ -0,0 +1,63 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+outbox 이벤트를 redis stream (outbox:{aggregateType}) 에 추가
+한 묶음의 이벤트를 하나의 pipeline 으로 전송하고, stream 길이는 max-length 근처로 유지한다.
+소비자는 consumer group 으로 stream 을 읽고, 이벤트 id 로 중복 전달을 걸러낸다. (relay 는 최소 한 번 전달)
+ */
+@Component
+@Order(0) // 외부 발행이 성공한 뒤 알림 등 후속 처리를 실행
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "redis", matchIfMissing = true)
+public class RedisStreamOutboxPublisher implements OutboxPublisher {
+
+    public static final String STREAM_PREFIX = "outbox:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${outbox.stream.max-length:100000}")
+    private long maxLength; // stream 에 남겨둘 최대 이벤트 수
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                byte[] stream = bytes(STREAM_PREFIX + event.getAggregateType());
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(fields(event)).withStreamKey(stream), options);
+            }
+            return null;
+        });
+    }
+
+    private static Map<byte[], byte[]> fields(OutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("id"), bytes(String.valueOf(event.getId())));
+        fields.put(bytes("type"), bytes(event.getEventType()));
+        fields.put(bytes("aggregateId"), bytes(event.getAggregateId()));
+        fields.put(bytes("occurredAt"), bytes(event.getRegDate().toString()));
+        fields.put(bytes("payload"), bytes(event.getPayload()));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+서버 메모리의 키 별 token bucket (요청마다 redis 를 거치지 않고 먼저 확인)
+버킷 수는 rate-limit.max-buckets 로 제한하여, ip 를 바꿔가며 보내는 요청이 많아도 메모리가 계속 늘어나지 않게 한다.
+(최대 개수를 넘으면 덜 사용된 버킷부터 지운다.)
+마지막 요청 후 rate-limit.bucket-idle-seconds 가 지난 버킷은 가득 찬 상태이므로 지워도 결과가 같다.
+ */
+@Component
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getBucketIdleSeconds()))
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+        return bucket.tryAcquire(now);
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
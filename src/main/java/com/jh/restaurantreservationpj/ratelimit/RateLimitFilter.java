@@ -0,0 +1,132 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.config.GlobalResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+엔드포인트 별 요청 수 제한 Filter (JwtAuthenticationFilter 다음에 실행되어 로그인한 회원을 구분)
+- 요청과 맞는 규칙마다 회원, ip, 경로 변수 별 token bucket 에서 토큰을 가져간다.
+- 서버 메모리의 버킷에서 먼저 확인하고, rate-limit.global 인 경우 redis 버킷으로 모든 서버의 요청 수를 함께 제한한다.
+- 토큰이 없으면 429 와 다음 토큰까지 기다릴 시간(Retry-After, 초)을 응답한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final RateLimitProperties properties;
+    private final LocalRateLimiter localRateLimiter;
+    private final RateLimiter globalRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledRule> rules;
+
+    private record CompiledRule(RateLimitProperties.Rule rule, List<PathPattern> patterns, Counter rejected) {
+    }
+
+    public RateLimitFilter(RateLimitProperties properties, LocalRateLimiter localRateLimiter, Optional<RedisRateLimiter> redisRateLimiter,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.localRateLimiter = localRateLimiter;
+        this.globalRateLimiter = redisRateLimiter.orElse(null);
+        this.objectMapper = objectMapper;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule,
+                        rule.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                        Counter.builder("rate_limit.rejected").tag("rule", rule.getName()).register(meterRegistry)))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (properties.isEnabled() && !rules.isEmpty()) {
+            PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+
+            for (CompiledRule compiled : rules) {
+                RateLimitProperties.Rule rule = compiled.rule();
+                if (StringUtils.hasText(rule.getMethod()) && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                    continue;
+                }
+
+                for (PathPattern pattern : compiled.patterns()) {
+                    PathPattern.PathMatchInfo matchInfo = pattern.matchAndExtract(path);
+                    if (matchInfo == null) {
+                        continue;
+                    }
+
+                    String key = rule.getName() + ":" + resolveKey(rule, request, matchInfo);
+                    long wait = tryAcquire(key, rule);
+                    if (wait > 0) {
+                        compiled.rejected().increment();
+                        reject(response, wait);
+                        return;
+                    }
+                    break;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private long tryAcquire(String key, RateLimitProperties.Rule rule) {
+        long wait = localRateLimiter.tryAcquire(key, rule.getCapacity(), rule.getRefillPerSecond());
+        if (wait > 0 || globalRateLimiter == null) {
+            return wait;
+        }
+        return globalRateLimiter.tryAcquire(key, rule.getCapacity(), rule.getRefillPerSecond());
+    }
+
+    private String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request, PathPattern.PathMatchInfo matchInfo) {
+        switch (rule.getKey()) {
+            case MEMBER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+                    return "member:" + authentication.getName();
+                }
+                return "ip:" + request.getRemoteAddr();
+            }
+            case PATH -> {
+                return "path:" + matchInfo.getUriVariables().get(rule.getVariable());
+            }
+            default -> {
+                return "ip:" + request.getRemoteAddr(); // 프록시 뒤에서는 server.forward-headers-strategy 설정 필요
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        log.warn("요청 수 제한 초과");
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("utf-8");
+
+        GlobalResponse<Object> result = GlobalResponse.toGlobalResponseFail(429, TOO_MANY_REQUESTS);
+        response.getWriter().write(objectMapper.writeValueAsString(result));
+    }
+}
@@ -0,0 +1,42 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 수 제한 설정 (rate-limit)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private boolean global = false; // redis 버킷으로 모든 서버의 요청 수를 함께 제한
+    private long maxBuckets = 100_000; // 서버 메모리에 유지하는 최대 버킷 수
+    private long bucketIdleSeconds = 60; // 마지막 요청 이후 서버 메모리 버킷 유지 시간(초), 규칙의 capacity / refill-per-second 보다 길어야 함
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum KeyType {
+        MEMBER, // 로그인한 회원 (로그인하지 않은 경우 ip)
+        IP,
+        PATH // 경로 변수 (ex. 매장 이름)
+    }
+
+    // 엔드포인트 별 제한
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String method; // 비어있는 경우 모든 http method
+        private List<String> paths = new ArrayList<>();
+        private KeyType key = KeyType.MEMBER;
+        private String variable; // key 가 PATH 인 경우 사용할 경로 변수 이름
+        private int capacity; // 한 번에 허용하는 최대 요청 수
+        private double refillPerSecond; // 초당 다시 채워지는 요청 수
+    }
+}
@@ -0,0 +1,8 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+// 키 별 token bucket
+public interface RateLimiter {
+
+    // 토큰 하나를 가져감, 허용된 경우 0 이고 거절된 경우 다음 토큰까지 기다려야 하는 시간(ns)
+    long tryAcquire(String key, int capacity, double refillPerSecond);
+}
@@ -0,0 +1,59 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+모든 서버가 함께 사용하는 redis token bucket
+LocalRateLimiter 와 같은 방식(tat 저장)을 lua 스크립트로 원자적으로 실행한다.
+시각은 서버마다 다를 수 있으므로 redis 의 TIME 을 사용하고, 키는 버킷이 가득 차는 시각에 만료된다.
+redis 장애 시에는 서버별 제한만 적용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.global", havingValue = "true")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] = 버킷 키, ARGV[1] = 토큰 하나가 채워지는 시간(us), ARGV[2] = capacity
+    // 허용된 경우 0, 거절된 경우 다음 토큰까지 기다려야 하는 시간(us) 반환
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local next = tat + interval
+            local wait = next - now - interval * tonumber(ARGV[2])
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.ceil((next - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long interval = Math.max(1, (long) (1_000_000L / refillPerSecond));
+        try {
+            Long wait = stringRedisTemplate.execute(SCRIPT, List.of(KEY_PREFIX + key), String.valueOf(interval), String.valueOf(capacity));
+            return wait == null ? 0 : wait * 1000;
+        } catch (RuntimeException e) {
+            log.warn("redis 요청 수 제한 확인 실패, 서버별 제한만 적용 = {}", e.getMessage());
+            return 0;
+        }
+    }
+}
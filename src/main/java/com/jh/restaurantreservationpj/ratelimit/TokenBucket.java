@@ -0,0 +1,41 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+잠금 없이 동작하는 token bucket
+남은 토큰 수 대신 버킷이 가득 차는 시각(tat) 하나만 저장하고 CAS 로 갱신한다. (GCRA)
+- 토큰 하나를 가져가면 tat 가 interval(1 / 초당 토큰 수) 만큼 늦어진다.
+- tat - 현재 시각이 capacity * interval 을 넘으면 토큰이 없는 상태이므로 거절한다.
+ */
+class TokenBucket {
+
+    private final AtomicLong tat;
+    private final long interval; // 토큰 하나가 채워지는 시간(ns)
+    private final long burst; // 버킷이 비어있을 때 tat - 현재 시각 (capacity * interval)
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.interval = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burst = capacity * interval;
+        this.tat = new AtomicLong(now);
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 버킷이 가득 찬 경우 (지워도 다시 만들었을 때와 같음)
+    boolean isFull(long now) {
+        return tat.get() <= now;
+    }
+}
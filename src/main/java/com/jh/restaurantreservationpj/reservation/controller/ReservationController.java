@@ -1,11 +1,16 @@
 package com.jh.restaurantreservationpj.reservation.controller;
 
 import com.jh.restaurantreservationpj.auth.TokenProvider;
+import com.jh.restaurantreservationpj.config.CursorPage;
 import com.jh.restaurantreservationpj.config.GlobalResponse;
+import com.jh.restaurantreservationpj.idempotency.Idempotent;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
 import com.jh.restaurantreservationpj.reservation.dto.*;
 import com.jh.restaurantreservationpj.reservation.service.ReservationService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +22,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/reservations")
@@ -27,9 +36,10 @@ public class ReservationController {
     private final ReservationService reservationService;
     private final TokenProvider tokenProvider;
 
-    // 예약 생성 컨트롤러
+    // 예약 생성 컨트롤러 (Idempotency-Key 헤더로 재시도한 요청은 처음 응답을 돌려줌)
     @PostMapping("/reservation")
     @PreAuthorize("hasRole('READ')")
+    @Idempotent
     public ResponseEntity<GlobalResponse<CreateReservationDto.Response>> create(@Valid @RequestBody CreateReservationDto.Request request, HttpServletRequest servletRequest) {
         String memberId = tokenProvider.getUserId(servletRequest);
 
@@ -71,6 +81,49 @@ public class ReservationController {
         return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
     }
 
+    // 예약 일괄 승인 컨트롤러
+    @PutMapping("/bulk/accept")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponse<List<BulkReservationDto.Result>>> acceptAll(@Valid @RequestBody BulkReservationDto.Request request, HttpServletRequest servletRequest) {
+        String managerId = tokenProvider.getUserId(servletRequest);
+
+        List<BulkReservationDto.Result> response = reservationService.acceptReservations(managerId, request);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
+
+    // 예약 일괄 거절 컨트롤러
+    @PutMapping("/bulk/deny")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponse<List<BulkReservationDto.Result>>> denyAll(@Valid @RequestBody BulkReservationDto.DenyRequest request, HttpServletRequest servletRequest) {
+        String managerId = tokenProvider.getUserId(servletRequest);
+
+        List<BulkReservationDto.Result> response = reservationService.denyReservations(managerId, request);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
+
+    // 매장의 오늘 상태별 예약 수 조회 컨트롤러
+    @GetMapping("/status/{restaurantName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponse<Map<ReservationStatus, Long>>> status(@PathVariable String restaurantName, HttpServletRequest servletRequest) {
+        String managerId = tokenProvider.getUserId(servletRequest);
+
+        Map<ReservationStatus, Long> response = reservationService.checkReservationStatus(managerId, restaurantName);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
+
+    // 매장 예약 생성, 취소 이벤트 구독 컨트롤러 (SSE)
+    // 목록을 주기적으로 조회하는 대신 연결을 유지하고 변경된 예약만 받는다.
+    @GetMapping("/stream/{restaurantName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter stream(@PathVariable String restaurantName, HttpServletRequest servletRequest) {
+        String managerId = tokenProvider.getUserId(servletRequest);
+
+        return reservationService.subscribeReservationEvents(managerId, restaurantName);
+    }
+
     // 방문 인증 컨트롤러
     @PutMapping("/reservation/visit")
     public ResponseEntity<GlobalResponse<CheckForMemberReservationDto.Response>> visit(@Valid @RequestBody UseReservationDto.Request request) {
@@ -101,6 +154,21 @@ public class ReservationController {
         return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
     }
 
+    // 점장이 매장 예약 목록을 커서 페이징으로 조회하는 컨트롤러
+    // 먼저 등록된 예약 순 정렬, 응답의 nextCursor 로 다음 페이지 조회
+    @GetMapping("/cursor/{restaurantName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponse<CursorPage<CheckForManagerReservationDto.Response>>> checkForManagerByCursor(@NotBlank(message = "매장 이름을 입력해주세요.") @PathVariable String restaurantName,
+                                                                                                                    @RequestParam(required = false) String cursor,
+                                                                                                                    @RequestParam(defaultValue = "20") @Min(value = 1, message = "1개 이상 조회하여야 합니다.") @Max(value = 100, message = "100개 이하로 조회하여야 합니다.") int size,
+                                                                                                                    HttpServletRequest servletRequest) {
+        String memberId = tokenProvider.getUserId(servletRequest);
+
+        CursorPage<CheckForManagerReservationDto.Response> response = reservationService.checkForManagerReservation(memberId, restaurantName.trim(), cursor, size);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
+
     // 회원이 예약 목록을 조회하는 컨트롤러
     @GetMapping("/search")
     @PreAuthorize("hasRole('READ')")
@@ -111,4 +179,18 @@ public class ReservationController {
 
         return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
     }
+
+    // 회원이 예약 목록을 커서 페이징으로 조회하는 컨트롤러
+    // 최신순 정렬, 응답의 nextCursor 로 다음 페이지 조회
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('READ')")
+    public ResponseEntity<GlobalResponse<CursorPage<CheckForMemberReservationDto.Response>>> checkForMemberByCursor(@RequestParam(required = false) String cursor,
+                                                                                                                   @RequestParam(defaultValue = "20") @Min(value = 1, message = "1개 이상 조회하여야 합니다.") @Max(value = 100, message = "100개 이하로 조회하여야 합니다.") int size,
+                                                                                                                   HttpServletRequest servletRequest) {
+        String memberId = tokenProvider.getUserId(servletRequest);
+
+        CursorPage<CheckForMemberReservationDto.Response> response = reservationService.checkForMemberReservation(memberId, cursor, size);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
 }
@@ -1,14 +1,18 @@
 package com.jh.restaurantreservationpj.reservation.domain;
 
 import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.reservation.dto.CheckForManagerReservationDto;
 import com.jh.restaurantreservationpj.reservation.dto.CheckForMemberReservationDto;
 import com.jh.restaurantreservationpj.reservation.dto.CreateReservationDto;
+import com.jh.restaurantreservationpj.reservation.exception.ReservationErrorCode;
+import com.jh.restaurantreservationpj.reservation.exception.ReservationException;
 import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,10 +20,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
+@Table(indexes = {
+        @Index(name = "idx_reservation_member_restaurant_slot", columnList = "member_number, restaurant_id, reservation_date, reservation_time"), // 같은 시간 예약 중복 확인용
+        @Index(name = "idx_reservation_slot", columnList = "reservation_date, reservation_time"), // 자동 취소 대상 조회용
+        @Index(name = "idx_reservation_member_reg_date", columnList = "member_number, reg_date, id"), // 회원 예약 목록 커서 페이징용
+        @Index(name = "idx_reservation_restaurant_reg_date", columnList = "restaurant_id, status, reg_date, id"), // 매장 대기 예약 목록 페이징용
+        @Index(name = "idx_reservation_restaurant_status_date", columnList = "restaurant_id, status, reservation_date") // 매장 상태별 예약 현황 조회용
+})
 public class Reservation extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -33,23 +44,32 @@ public class Reservation extends BaseTimeEntity {
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant reservationRestaurant; // 예약한 식당
 
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDate reservationDate = LocalDate.now(); // 예약 날짜 (당일 예약만 가능하므로 예약 생성 날짜)
+
     @Column(nullable = false)
     private String reservationTime; // 희망 예약 시간
 
-    @Column
-    private Boolean isAccept; // 점장 예약 승인 여부
+    @Column(nullable = false)
+    @Convert(converter = ReservationStatusConverter.class)
+    @Builder.Default
+    private ReservationStatus status = ReservationStatus.PENDING; // 예약 상태
 
     @Column
     private String deniedMessage; // 승인 거절 및 취소 이유
 
-    @Column(nullable = false)
-    private boolean isVisit; // 방문 확인 여부
+    @Column
+    private LocalDateTime delDate; // 삭제 날짜 (승인, 거절, 취소 등 처리된 날짜)
 
-    @Column(nullable = false)
-    private boolean isCancel; // 회원이 예약을 취소했는지 여부
+    // 상태를 변경한 예약 builder (허용되지 않은 상태 변경인 경우 예외)
+    public ReservationBuilder changeStatus(ReservationStatus next) {
+        if (!status.canChangeTo(next)) {
+            throw new ReservationException(ReservationErrorCode.IMPOSSIBLE_STATUS_CHANGE);
+        }
 
-    @Column
-    private LocalDateTime delDate; // 삭제 날짜
+        return toBuilder().status(next);
+    }
 
     // Entity -> CheckResponse (점장용)
     public CheckForManagerReservationDto.Response toCheckForManagerResponse() {
@@ -0,0 +1,46 @@
+package com.jh.restaurantreservationpj.reservation.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+예약 상태 (db 에는 1 byte 코드로 저장)
+PENDING -> ACCEPTED -> VISITED
+PENDING -> DENIED, CANCELED
+PENDING, ACCEPTED -> AUTO_CANCELED (방문 인증 시간이 지난 경우)
+ */
+@Getter
+@AllArgsConstructor
+public enum ReservationStatus {
+    PENDING((byte) 0), // 승인 대기
+    ACCEPTED((byte) 1), // 점장 승인
+    DENIED((byte) 2), // 점장 거절
+    CANCELED((byte) 3), // 회원 취소
+    AUTO_CANCELED((byte) 4), // 방문하지 않아 자동 취소
+    VISITED((byte) 5); // 방문 완료
+
+    public static final List<ReservationStatus> ACTIVE = List.of(PENDING, ACCEPTED); // 방문 전 진행 중인 예약
+    public static final List<ReservationStatus> OCCUPYING = List.of(PENDING, ACCEPTED, VISITED); // 예약 자리를 차지하는 예약
+    public static final List<ReservationStatus> CONFLICTING = List.of(PENDING, ACCEPTED, DENIED, VISITED); // 같은 시간으로 다시 예약할 수 없는 예약
+
+    private final byte code;
+
+    // 현재 상태에서 next 로 변경할 수 있는지 확인
+    public boolean canChangeTo(ReservationStatus next) {
+        return switch (this) {
+            case PENDING -> next == ACCEPTED || next == DENIED || next == CANCELED || next == AUTO_CANCELED;
+            case ACCEPTED -> next == VISITED || next == AUTO_CANCELED;
+            default -> false;
+        };
+    }
+
+    public static ReservationStatus fromCode(byte code) {
+        return Arrays.stream(ReservationStatus.values())
+                .filter(s -> s.getCode() == code)
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 예약 상태 코드 = " + code));
+    }
+}
@@ -0,0 +1,19 @@
+package com.jh.restaurantreservationpj.reservation.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// 예약 상태 <-> 1 byte 코드 (enum 순서나 이름이 바뀌어도 저장된 값이 바뀌지 않도록 코드를 직접 지정)
+@Converter
+public class ReservationStatusConverter implements AttributeConverter<ReservationStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(ReservationStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(Byte code) {
+        return code != null ? ReservationStatus.fromCode(code) : null;
+    }
+}
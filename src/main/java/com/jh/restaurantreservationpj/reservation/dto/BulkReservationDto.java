@@ -0,0 +1,51 @@
+package com.jh.restaurantreservationpj.reservation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+// 점장이 여러 예약을 한 번에 승인, 거절 시 dto
+public class BulkReservationDto {
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotEmpty(message = "예약 번호를 입력해주세요.")
+        @Size(max = 100, message = "한 번에 100개의 예약까지 처리할 수 있습니다.")
+        private List<@Pattern(regexp = "\\d{8}", message = "예약 번호는 8자리 숫자입니다.") String> reservationNumbers; // 예약 번호 리스트
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class DenyRequest {
+
+        @NotEmpty(message = "예약 번호를 입력해주세요.")
+        @Size(max = 100, message = "한 번에 100개의 예약까지 처리할 수 있습니다.")
+        private List<@Pattern(regexp = "\\d{8}", message = "예약 번호는 8자리 숫자입니다.") String> reservationNumbers; // 예약 번호 리스트
+
+        @NotBlank(message = "예약 거절 사유를 입력해주세요.")
+        private String reason; // 예약 거절 사유
+    }
+
+    // 예약 번호별 처리 결과
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class Result {
+
+        private String reservationNumber; // 예약 번호
+        private boolean success; // 처리 여부
+        private String failMessage; // 처리되지 않은 이유
+        private CheckForMemberReservationDto.Response reservation; // 처리된 예약
+    }
+}
@@ -0,0 +1,20 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// outbox 에 저장하는 예약 상태 변경 이벤트 내용
+// 회원, 매장은 조회 없이 알 수 있는 아이디만 담는다.
+public record ReservationChangedEvent(String reservationNumber, Long memberId, Long restaurantId, ReservationStatus status,
+                                      LocalDate reservationDate, String reservationTime, String message, LocalDateTime occurredAt) {
+
+    public static final String AGGREGATE_TYPE = "reservation";
+
+    public static ReservationChangedEvent of(Reservation reservation) {
+        return new ReservationChangedEvent(reservation.getReservationNumber(), reservation.getReservationMember().getId(), reservation.getReservationRestaurant().getId(),
+                reservation.getStatus(), reservation.getReservationDate(), reservation.getReservationTime(), reservation.getDeniedMessage(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,23 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+
+import java.time.LocalDateTime;
+
+// 매장 관리자에게 실시간으로 알리는 예약 변경 이벤트 (Type 은 outbox 이벤트 종류로도 사용)
+public record ReservationEvent(Type type, Long restaurantId, String reservationNumber, String reservationTime, LocalDateTime occurredAt) {
+
+    public enum Type {
+        CREATED, // 예약 생성
+        ACCEPTED, // 점장 승인
+        DENIED, // 점장 거절
+        CANCELED, // 회원 취소
+        AUTO_CANCELED, // 방문 인증 시간이 지나 자동 취소
+        VISITED // 방문 인증
+    }
+
+    public static ReservationEvent of(Type type, Reservation reservation) {
+        return new ReservationEvent(type, reservation.getReservationRestaurant().getId(), reservation.getReservationNumber(),
+                reservation.getReservationTime(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,153 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.reservation.exception.ReservationErrorCode;
+import com.jh.restaurantreservationpj.reservation.exception.ReservationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+매장별 SSE 구독자 관리
+redis 채널로 받은 예약 이벤트를 현재 서버에 연결된 해당 매장의 구독자에게 전달한다.
+(모든 서버가 같은 채널을 구독하므로 관리자가 어느 서버에 연결되어 있어도 이벤트를 받는다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventHub implements MessageListener {
+
+    public static final String CHANNEL = "reservation:events";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.sse.timeout:1800000}")
+    private long timeout; // 연결 유지 시간(ms), 지나면 클라이언트가 재연결
+
+    @Value("${reservation.sse.buffer-size:64}")
+    private int bufferSize; // 구독자별 전송 대기 이벤트 최대 개수
+
+    @Value("${reservation.sse.max-subscribers:2000}")
+    private int maxSubscribers; // 서버당 최대 연결 수
+
+    @Value("${reservation.sse.sender-threads:4}")
+    private int senderThreads; // 이벤트 전송 스레드 수
+
+    private final Map<Long, Set<ReservationEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ExecutorService sender;
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("reservation-sse-");
+        threadFactory.setDaemon(true);
+        sender = Executors.newFixedThreadPool(senderThreads, threadFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.values().forEach(set -> set.forEach(ReservationEventSubscriber::close));
+        sender.shutdownNow();
+    }
+
+    // 매장 이벤트 구독
+    public SseEmitter subscribe(Long restaurantId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ReservationException(ReservationErrorCode.FULL_SUBSCRIBER);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        ReservationEventSubscriber subscriber = new ReservationEventSubscriber(restaurantId, emitter, bufferSize, sender, this::remove);
+        subscribers.computeIfAbsent(restaurantId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+
+        // 연결 직후 응답을 시작하도록 첫 이벤트 전송
+        subscriber.offer(SseEmitter.event().name("CONNECTED").data(restaurantId).build());
+
+        return emitter;
+    }
+
+    // 다른 서버(자신 포함)에서 발행한 예약 이벤트 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        deliver(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // json 형식의 예약 이벤트를 해당 매장 구독자에게 전달
+    void deliver(String json) {
+        ReservationEvent event;
+        try {
+            event = objectMapper.readValue(json, ReservationEvent.class);
+        } catch (JsonProcessingException e) {
+            log.error("예약 이벤트 형식 오류 = {}", e.getMessage());
+            return;
+        }
+
+        Set<ReservationEventSubscriber> targets = subscribers.get(event.restaurantId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        // 받은 json 을 그대로 전송하여 구독자마다 직렬화하지 않는다.
+        Set<ResponseBodyEmitter.DataWithMediaType> payload = SseEmitter.event()
+                .name(event.type().name())
+                .id(event.reservationNumber())
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        for (ReservationEventSubscriber subscriber : targets) {
+            if (!subscriber.offer(payload)) {
+                log.warn("예약 이벤트를 받지 못하는 연결 종료 = 매장 {}", subscriber.getRestaurantId());
+            }
+        }
+    }
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 전송 (끊긴 연결도 이때 정리된다.)
+    @Scheduled(fixedDelayString = "${reservation.sse.heartbeat-interval:30000}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void remove(ReservationEventSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getRestaurantId(), (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+    }
+}
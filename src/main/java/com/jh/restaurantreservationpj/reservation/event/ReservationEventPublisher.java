@@ -0,0 +1,65 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 예약 이벤트를 redis 채널로 발행하여 모든 서버의 구독자에게 전달
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReservationEventHub reservationEventHub;
+    private final ObjectMapper objectMapper;
+
+    // 트랜잭션 안에서는 커밋 후 발행 (롤백된 예약은 알리지 않음)
+    public void publish(ReservationEvent event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<ReservationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::send);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(ReservationEventPublisher.this::send);
+            }
+        });
+    }
+
+    // 알림 실패는 관리자가 목록을 다시 조회하면 해소되므로 요청을 실패시키지 않는다.
+    // redis 장애 시에는 현재 서버의 구독자에게만 전달
+    private void send(ReservationEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("예약 이벤트 변환 실패 = {}", e.getMessage());
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(ReservationEventHub.CHANNEL, json);
+        } catch (RuntimeException e) {
+            log.error("예약 이벤트 발행 실패 = {}", e.getMessage());
+            reservationEventHub.deliver(json);
+        }
+    }
+}
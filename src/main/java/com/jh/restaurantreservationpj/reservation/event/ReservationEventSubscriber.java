@@ -0,0 +1,115 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/*
+SSE 연결 하나의 전송 대기열
+이벤트는 크기가 정해진 대기열에 넣고 공용 전송 스레드가 순서대로 보낸다. (구독자마다 전송 작업은 하나만 실행)
+대기열이 가득 찰 만큼 받지 못하는 연결은 끊어서 메모리를 쌓아두지 않는다.
+클라이언트는 재연결 후 예약 목록을 다시 조회하여 놓친 이벤트를 맞춘다.
+ */
+class ReservationEventSubscriber {
+
+    private final Long restaurantId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+    private final Executor sender;
+    private final Consumer<ReservationEventSubscriber> onClose; // 구독 목록에서 제거
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ReservationEventSubscriber(Long restaurantId, SseEmitter emitter, int bufferSize, Executor sender, Consumer<ReservationEventSubscriber> onClose) {
+        this.restaurantId = restaurantId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    // 이벤트를 대기열에 추가, 가득 찬 경우 연결 종료 후 false 반환
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (closed.get()) {
+            return false;
+        }
+
+        if (!queue.offer(event)) {
+            close();
+            return false;
+        }
+
+        scheduleDrain();
+        return true;
+    }
+
+    // 연결 종료 (여러 번 호출되어도 한 번만 처리)
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        queue.clear();
+        onClose.accept(this);
+        emitter.complete();
+    }
+
+    // 연결이 이미 끝난 경우 (timeout, 클라이언트 종료) 목록에서만 제거
+    void detach() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) { // 이미 전송 중인 경우 전송 중인 작업이 이어서 보냄
+            return;
+        }
+
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) { // 서버 종료 중
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) { // 클라이언트 연결이 끊긴 경우
+            detach();
+        } finally {
+            draining.set(false);
+        }
+
+        if (!closed.get() && !queue.isEmpty()) { // 전송 작업이 끝나는 사이에 들어온 이벤트
+            scheduleDrain();
+        }
+    }
+}
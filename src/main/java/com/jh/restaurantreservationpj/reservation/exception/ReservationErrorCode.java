@@ -14,11 +14,15 @@ public enum ReservationErrorCode {
     DIFF_RESERVATION_MANAGER(400, "예약한 식당의 관리자와 다른 관리자입니다."),
     DIFF_RESERVATION_MEMBER(400, "예약한 회원과 다른 회원입니다."),
     DIFF_RESERVATION_RESTAURANT(400, "예약한 매장과 다른 매장입니다."),
+    FULL_RESERVATION(400, "해당 시간의 예약이 모두 찼습니다. 다른 시간으로 예약해주세요."),
+    FULL_SUBSCRIBER(400, "실시간 예약 알림 연결이 많아 잠시 후 다시 시도해주세요."),
     IMPOSSIBLE_RESERVATION(400, "해당 시간에 예약할 수 없습니다."),
     IMPOSSIBLE_RESERVATION_FOR_DENIED(400, "이미 거절된 예약 시간입니다."),
     IMPOSSIBLE_CANCEL(400, "예약 취소는 예약한 시간 1시간 전까지만 가능합니다."),
     IMPOSSIBLE_VISIT(400, "현재 예약이 승인되지 않았거나 취소된 예약입니다."),
-    NOT_FOUND_RESERVATION(400, "예약 정보가 없습니다.");
+    IMPOSSIBLE_STATUS_CHANGE(400, "현재 예약 상태에서 변경할 수 없습니다."),
+    NOT_FOUND_RESERVATION(400, "예약 정보가 없습니다."),
+    NOT_VALID_CURSOR(400, "잘못된 페이지 커서입니다.");
 
     private final int status;
     private final String message;
@@ -2,12 +2,20 @@ package com.jh.restaurantreservationpj.reservation.repository;
 
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
 import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +30,143 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     Page<Reservation> findAllByReservationRestaurantAndDelDate(Restaurant restaurant, LocalDateTime delDate, Pageable pageable); // 매장에 해당하는 예약 리스트 중 삭제되지 않은 리스트를 페이징처리하여 가져오기
 
+    // 목록 조회 시 예약한 매장을 함께 조회 (dto 변환 시 매장 이름 지연 로딩 방지)
+    @EntityGraph(attributePaths = "reservationRestaurant")
+    List<Reservation> findContentByReservationMember(Member member, Pageable pageable); // count 쿼리 없이 회원의 예약 리스트 현재 페이지만 조회
+
+    // 목록 조회 시 예약한 회원을 함께 조회 (dto 변환 시 회원 아이디 지연 로딩 방지)
+    @EntityGraph(attributePaths = "reservationMember")
+    List<Reservation> findContentByReservationRestaurantAndStatus(Restaurant restaurant, ReservationStatus status, Pageable pageable); // count 쿼리 없이 매장의 해당 상태 예약 리스트 현재 페이지만 조회
+
+    long countByReservationMember(Member member); // 회원의 예약 수
+
+    // 회원의 최신 예약부터 조회 (커서 페이징 첫 페이지)
+    @Query("select r from Reservation r where r.reservationMember = :member order by r.regDate desc, r.id desc")
+    @EntityGraph(attributePaths = "reservationRestaurant")
+    List<Reservation> findLatestByMember(@Param("member") Member member, Pageable pageable);
+
+    // 회원의 예약 중 커서(등록 날짜, 아이디) 이전에 등록된 예약 조회 (커서 페이징 다음 페이지)
+    @Query("select r from Reservation r " +
+            "where r.reservationMember = :member and (r.regDate < :regDate or (r.regDate = :regDate and r.id < :id)) " +
+            "order by r.regDate desc, r.id desc")
+    @EntityGraph(attributePaths = "reservationRestaurant")
+    List<Reservation> findOlderByMember(@Param("member") Member member, @Param("regDate") LocalDateTime regDate, @Param("id") Long id, Pageable pageable);
+
+    // 매장의 해당 상태 예약을 먼저 등록된 순서로 조회 (커서 페이징 첫 페이지)
+    @Query("select r from Reservation r where r.reservationRestaurant = :restaurant and r.status = :status order by r.regDate asc, r.id asc")
+    @EntityGraph(attributePaths = "reservationMember")
+    List<Reservation> findByRestaurantAndStatus(@Param("restaurant") Restaurant restaurant, @Param("status") ReservationStatus status, Pageable pageable);
+
+    // 매장의 해당 상태 예약 중 커서(등록 날짜, 아이디) 이후에 등록된 예약 조회 (커서 페이징 다음 페이지)
+    @Query("select r from Reservation r " +
+            "where r.reservationRestaurant = :restaurant and r.status = :status " +
+            "and (r.regDate > :regDate or (r.regDate = :regDate and r.id > :id)) " +
+            "order by r.regDate asc, r.id asc")
+    @EntityGraph(attributePaths = "reservationMember")
+    List<Reservation> findByRestaurantAndStatusAfter(@Param("restaurant") Restaurant restaurant, @Param("status") ReservationStatus status, @Param("regDate") LocalDateTime regDate, @Param("id") Long id, Pageable pageable);
+
+    long countByReservationRestaurantAndStatus(Restaurant restaurant, ReservationStatus status); // 매장의 해당 상태 예약 수
+
+    Optional<Reservation> findByReservationNumberAndStatus(String reservationNumber, ReservationStatus status); // 해당 상태인 예약 찾기
+
+    // 가장 큰 예약 번호 (예약 번호 카운터 유실 시 다시 채우는 용도, 모두 8자리이므로 문자열로 비교)
+    @Query("select max(r.reservationNumber) from Reservation r")
+    String findMaxReservationNumber();
+
+    // 매장의 날짜별 상태별 예약 수 (상태, 예약 수)
+    // 상태 조건이 없으면 (restaurant_id, status, reservation_date) 인덱스에서 날짜로 범위를 좁히지 못하므로 상태를 모두 지정한다.
+    @Query("select r.status, count(r) from Reservation r " +
+            "where r.reservationRestaurant = :restaurant and r.status in :statuses and r.reservationDate = :reservationDate " +
+            "group by r.status")
+    List<Object[]> countByStatus(@Param("restaurant") Restaurant restaurant, @Param("reservationDate") LocalDate reservationDate,
+                                 @Param("statuses") List<ReservationStatus> statuses);
+
+    default List<Object[]> countByStatus(Restaurant restaurant, LocalDate reservationDate) {
+        return countByStatus(restaurant, reservationDate, List.of(ReservationStatus.values()));
+    }
+
+    // 여러 예약을 매장, 매장 관리자와 함께 잠그며 한 번에 조회 (일괄 승인, 거절 시 관리자 확인용)
+    // 확인한 뒤 update 할 때까지 다른 요청이 같은 예약을 처리하지 못하게 한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"reservationRestaurant", "reservationRestaurant.manager"})
+    List<Reservation> findAllByReservationNumberIn(List<String> reservationNumbers);
+
+    // 승인 대기중인 예약들을 한 번에 승인 또는 거절 (거절 시 message 저장)
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :status, r.deniedMessage = coalesce(:message, r.deniedMessage), r.delDate = :now, r.chgDate = :now " +
+            "where r.id in :ids and r.status = :pending")
+    int changePendingStatus(@Param("ids") List<Long> ids, @Param("status") ReservationStatus status, @Param("message") String message,
+                            @Param("now") LocalDateTime now, @Param("pending") ReservationStatus pending);
+
     boolean existsByReservationNumberAndDelDate(String reservationNumber, LocalDateTime delDate); // 삭제되지 않은 예약 중 예약 번호의 중복 여부
 
-    List<Reservation> findAllByReservationMemberAndReservationRestaurant(Member reservationMember, Restaurant reservationRestaurant); // 회원이 매장에 예약한 리스트 조회
+    // 회원이 같은 날짜, 같은 시간에 매장에 한 예약 중 대기중이거나 승인, 거절, 방문된 예약 조회 (취소된 예약 제외)
+    @Query("select r from Reservation r " +
+            "where r.reservationMember = :member and r.reservationRestaurant = :restaurant " +
+            "and r.reservationDate = :reservationDate and r.reservationTime = :reservationTime " +
+            "and r.status in :statuses")
+    List<Reservation> findAllConflictReservation(@Param("member") Member member, @Param("restaurant") Restaurant restaurant, @Param("reservationDate") LocalDate reservationDate,
+                                                 @Param("reservationTime") String reservationTime, @Param("statuses") List<ReservationStatus> statuses);
+
+    // 회원이 같은 날짜, 같은 시간에 매장에 한 예약 중 다시 예약할 수 없는 예약 조회
+    default List<Reservation> findAllConflictReservation(Member member, Restaurant restaurant, LocalDate reservationDate, String reservationTime) {
+        return findAllConflictReservation(member, restaurant, reservationDate, reservationTime, ReservationStatus.CONFLICTING);
+    }
+
+    // 매장의 해당 날짜, 시간에 자리를 차지하는 예약 수 조회
+    @Query("select count(r) from Reservation r " +
+            "where r.reservationRestaurant.id = :restaurantId and r.reservationDate = :reservationDate and r.reservationTime = :reservationTime " +
+            "and r.status in :statuses")
+    long countInSlot(@Param("restaurantId") Long restaurantId, @Param("reservationDate") LocalDate reservationDate, @Param("reservationTime") String reservationTime,
+                     @Param("statuses") List<ReservationStatus> statuses);
+
+    // 매장의 해당 날짜, 시간에 대기중이거나 승인, 방문된 예약 수 조회
+    default long countActiveInSlot(Long restaurantId, LocalDate reservationDate, String reservationTime) {
+        return countInSlot(restaurantId, reservationDate, reservationTime, ReservationStatus.OCCUPYING);
+    }
+
+    // 지정한 날짜의 cutoffTime 시까지의 예약 중 자동 취소될 예약을 잠그며 조회 (회원, 매장은 아이디만 사용하므로 함께 조회하지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r " +
+            "where r.reservationDate = :reservationDate and r.reservationTime <= :cutoffTime and r.status in :statuses")
+    List<Reservation> findOverdue(@Param("reservationDate") LocalDate reservationDate, @Param("cutoffTime") String cutoffTime,
+                                  @Param("statuses") List<ReservationStatus> statuses);
+
+    default List<Reservation> findOverdue(LocalDate reservationDate, String cutoffTime) {
+        return findOverdue(reservationDate, cutoffTime, ReservationStatus.ACTIVE);
+    }
+
+    // 지정한 날짜 이전의 예약 중 자동 취소될 예약을 잠그며 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.reservationDate < :reservationDate and r.status in :statuses")
+    List<Reservation> findOverdueBefore(@Param("reservationDate") LocalDate reservationDate, @Param("statuses") List<ReservationStatus> statuses);
+
+    default List<Reservation> findOverdueBefore(LocalDate reservationDate) {
+        return findOverdueBefore(reservationDate, ReservationStatus.ACTIVE);
+    }
+
+    // 지정한 날짜의 cutoffTime 시까지의 예약 중 방문하지 않은 대기중 또는 승인된 예약을 한 번에 자동 취소 처리
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :canceled, r.deniedMessage = :message, " +
+            "r.delDate = coalesce(r.delDate, :now), r.chgDate = :now " +
+            "where r.reservationDate = :reservationDate and r.reservationTime <= :cutoffTime " +
+            "and r.status in :statuses")
+    int autoCancelOverdue(@Param("reservationDate") LocalDate reservationDate, @Param("cutoffTime") String cutoffTime, @Param("message") String message, @Param("now") LocalDateTime now,
+                          @Param("statuses") List<ReservationStatus> statuses, @Param("canceled") ReservationStatus canceled);
+
+    default int autoCancelOverdue(LocalDate reservationDate, String cutoffTime, String message, LocalDateTime now) {
+        return autoCancelOverdue(reservationDate, cutoffTime, message, now, ReservationStatus.ACTIVE, ReservationStatus.AUTO_CANCELED);
+    }
+
+    // 지정한 날짜 이전의 예약 중 방문하지 않은 대기중 또는 승인된 예약을 한 번에 자동 취소 처리
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :canceled, r.deniedMessage = :message, " +
+            "r.delDate = coalesce(r.delDate, :now), r.chgDate = :now " +
+            "where r.reservationDate < :reservationDate and r.status in :statuses")
+    int autoCancelBefore(@Param("reservationDate") LocalDate reservationDate, @Param("message") String message, @Param("now") LocalDateTime now,
+                         @Param("statuses") List<ReservationStatus> statuses, @Param("canceled") ReservationStatus canceled);
+
+    default int autoCancelBefore(LocalDate reservationDate, String message, LocalDateTime now) {
+        return autoCancelBefore(reservationDate, message, now, ReservationStatus.ACTIVE, ReservationStatus.AUTO_CANCELED);
+    }
 }
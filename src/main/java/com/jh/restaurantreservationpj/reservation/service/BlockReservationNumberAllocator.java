@@ -0,0 +1,70 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+/*
+블록 단위로 예약 번호를 발급하는 발급기
+공유 카운터(redis 등)에서 blockSize 만큼의 번호 구간을 한 번에 임대하고
+임대한 구간 안에서는 CAS 만으로 번호를 발급하므로 요청마다 DB나 redis 를 조회하지 않는다.
+구간을 모두 사용한 경우에만 새 구간을 임대한다.
+ */
+public class BlockReservationNumberAllocator implements ReservationNumberAllocator {
+
+    private static final long RANGE = (long) MAX_NUMBER - MIN_NUMBER + 1; // 발급 가능한 번호 개수
+
+    private final LongUnaryOperator leaser; // blockSize 만큼 카운터를 증가시키고 증가된 값을 반환
+    private final int blockSize;
+
+    private volatile Block block = new Block(0, 0); // 현재 임대중인 구간 (처음에는 빈 구간)
+
+    public BlockReservationNumberAllocator(LongUnaryOperator leaser, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize는 1 이상이어야 합니다.");
+        }
+
+        this.leaser = leaser;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public String allocate() {
+        while (true) {
+            Block current = block;
+            long seq = current.next.getAndIncrement();
+            if (seq < current.end) { // 임대한 구간 안의 번호인 경우
+                return toReservationNumber(seq);
+            }
+
+            lease(current);
+        }
+    }
+
+    // 구간을 모두 사용한 경우 새 구간 임대
+    // 다른 스레드가 이미 새 구간을 임대했다면 아무것도 하지 않는다.
+    private synchronized void lease(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+
+        long end = leaser.applyAsLong(blockSize); // 증가된 카운터 값 = 임대한 구간의 끝 (미포함)
+        block = new Block(end - blockSize, end);
+    }
+
+    // 카운터 값(0부터 시작)을 8자리 예약 번호로 변환
+    // 발급 가능한 번호를 모두 사용하면 처음 번호부터 다시 발급한다.
+    private static String toReservationNumber(long seq) {
+        return String.valueOf(MIN_NUMBER + Math.floorMod(seq, RANGE));
+    }
+
+    // 임대한 번호 구간 [next, end)
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
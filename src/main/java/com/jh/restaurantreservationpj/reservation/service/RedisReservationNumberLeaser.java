@@ -0,0 +1,66 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/*
+redis 카운터로 예약 번호 구간을 임대
+카운터가 없는 경우(redis 초기화, 키 유실) 0부터 다시 세면 이미 발급한 번호와 겹치므로
+db 의 가장 큰 예약 번호 다음부터 시작하도록 SETNX 로 카운터를 채운 뒤 임대한다.
+다른 서버가 유실 전에 임대해 둔 구간과 겹치지 않도록 seedGap 만큼 건너뛴다.
+ */
+@Slf4j
+public class RedisReservationNumberLeaser implements LongUnaryOperator {
+
+    public static final String KEY = "reservation:number:seq";
+
+    // KEYS[1] = 카운터 키, ARGV[1] = 임대할 개수
+    // 카운터가 없으면 만들지 않고 -1, 있으면 증가된 값 반환
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Supplier<String> maxReservationNumber; // db 의 가장 큰 예약 번호 (없으면 null)
+    private final long seedGap; // 카운터를 다시 채울 때 건너뛰는 번호 수
+
+    public RedisReservationNumberLeaser(StringRedisTemplate stringRedisTemplate, Supplier<String> maxReservationNumber, long seedGap) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxReservationNumber = maxReservationNumber;
+        this.seedGap = seedGap;
+    }
+
+    @Override
+    public long applyAsLong(long size) {
+        Long end = stringRedisTemplate.execute(SCRIPT, List.of(KEY), String.valueOf(size));
+        if (end != null && end < 0) { // 카운터 없음
+            seed();
+            end = stringRedisTemplate.execute(SCRIPT, List.of(KEY), String.valueOf(size));
+        }
+        if (end == null || end < 0) {
+            throw new IllegalStateException("예약 번호 구간을 임대할 수 없습니다.");
+        }
+
+        return end;
+    }
+
+    // 여러 서버가 동시에 채우는 경우 먼저 채운 값을 사용
+    private void seed() {
+        String max = maxReservationNumber.get();
+        long seed = max == null ? 0 : Long.parseLong(max) - ReservationNumberAllocator.MIN_NUMBER + 1 + seedGap;
+
+        Boolean seeded = stringRedisTemplate.opsForValue().setIfAbsent(KEY, String.valueOf(seed));
+        if (Boolean.TRUE.equals(seeded)) {
+            log.warn("예약 번호 카운터가 없어 다시 채움 = {} (db 최대 예약 번호 {})", seed, max);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.config.TotalCountCache;
+import com.jh.restaurantreservationpj.outbox.service.OutboxService;
+import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
+import com.jh.restaurantreservationpj.reservation.event.ReservationChangedEvent;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEvent;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEventPublisher;
+import com.jh.restaurantreservationpj.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+방문 인증 시간(예약 시간 10분 전)이 지난 예약을 주기적으로 자동 취소 처리하는 스케줄러
+조회 시마다 예약을 한 건씩 저장하던 방식 대신 시간 구간별로 한 번의 UPDATE 로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAutoCancelScheduler {
+
+    private final ReservationRepository reservationRepository;
+    private final TotalCountCache totalCountCache;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final OutboxService outboxService;
+
+    @Scheduled(fixedDelayString = "${reservation.auto-cancel.interval:60000}")
+    @Transactional
+    public void autoCancel() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        // 예약 시간 10분 전이 지난 예약 시간의 최댓값
+        // 자정 10분 전부터는 오늘의 모든 예약이 대상
+        LocalDateTime visitLimit = now.plusMinutes(10);
+        int cutoffHour = visitLimit.toLocalDate().isAfter(today) ? 23 : visitLimit.getHour();
+        String cutoffTime = String.format("%02d", cutoffHour);
+
+        // 자동 취소 대상을 잠그며 조회하여 UPDATE 전에 다른 요청이 상태를 바꾸지 못하게 한다. (outbox 이벤트와 실제 변경을 일치시킴)
+        List<Reservation> overdueBefore = reservationRepository.findOverdueBefore(today);
+        List<Reservation> overdueToday = reservationRepository.findOverdue(today, cutoffTime);
+
+        int canceledBefore = reservationRepository.autoCancelBefore(today, ReservationService.AUTO_CANCEL_MESSAGE, now);
+        int canceledToday = reservationRepository.autoCancelOverdue(today, cutoffTime, ReservationService.AUTO_CANCEL_MESSAGE, now);
+
+        List<ReservationChangedEvent> changed = Stream.concat(overdueBefore.stream(), overdueToday.stream())
+                .map(reservation -> ReservationChangedEvent.of(reservation.changeStatus(ReservationStatus.AUTO_CANCELED)
+                        .deniedMessage(ReservationService.AUTO_CANCEL_MESSAGE)
+                        .build()))
+                .toList();
+        outboxService.appendAll(ReservationChangedEvent.AGGREGATE_TYPE, ReservationEvent.Type.AUTO_CANCELED.name(), changed, ReservationChangedEvent::reservationNumber);
+
+        // 매장 관리자에게는 오늘의 자동 취소만 알림 (지난 날짜의 예약은 이미 목록에서 사라졌음)
+        reservationEventPublisher.publishAll(overdueToday.stream()
+                .map(reservation -> ReservationEvent.of(ReservationEvent.Type.AUTO_CANCELED, reservation))
+                .toList());
+
+        if (canceledBefore + canceledToday > 0) {
+            totalCountCache.evictByPrefix(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY); // 매장별 남은 예약 수가 바뀜
+            log.info("예약 자동 취소 처리 = {}건 (지난 예약 {}건, 오늘 {}시까지의 예약 {}건)", canceledBefore + canceledToday, canceledBefore, cutoffTime, canceledToday);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+// 예약 번호 발급기
+// 여러 노드에서 동시에 호출되어도 중복되지 않는 8자리 예약 번호를 발급해야 한다.
+public interface ReservationNumberAllocator {
+
+    int MIN_NUMBER = 10000000; // 발급 가능한 최소 예약 번호
+    int MAX_NUMBER = 99999999; // 발급 가능한 최대 예약 번호
+
+    String allocate(); // 예약 번호 발급
+}
@@ -1,14 +1,25 @@
 package com.jh.restaurantreservationpj.reservation.service;
 
 import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.config.Cursor;
+import com.jh.restaurantreservationpj.config.CursorPage;
+import com.jh.restaurantreservationpj.config.TotalCountCache;
+import com.jh.restaurantreservationpj.config.TwoLevelCache;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.domain.MemberRole;
 import com.jh.restaurantreservationpj.member.domain.Role;
+import com.jh.restaurantreservationpj.member.event.MemberRolesChangedEvent;
 import com.jh.restaurantreservationpj.member.exception.MemberErrorCode;
 import com.jh.restaurantreservationpj.member.exception.MemberException;
 import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import com.jh.restaurantreservationpj.outbox.service.OutboxService;
 import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
 import com.jh.restaurantreservationpj.reservation.dto.*;
+import com.jh.restaurantreservationpj.reservation.event.ReservationChangedEvent;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEvent;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEventHub;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEventPublisher;
 import com.jh.restaurantreservationpj.reservation.exception.ReservationErrorCode;
 import com.jh.restaurantreservationpj.reservation.exception.ReservationException;
 import com.jh.restaurantreservationpj.reservation.repository.ReservationRepository;
@@ -17,34 +28,46 @@ import com.jh.restaurantreservationpj.restaurant.exception.RestaurantErrorCode;
 import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
 import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 /*
-예약은 처음 생성 시 delDate 는 null
-예약 승인, 거절, 취소, 방문 인증 처리 되는 경우 처리된 날짜로 delDate 변경
+예약은 처음 생성 시 승인 대기(PENDING) 상태, delDate 는 null
+예약 승인, 거절, 취소 처리 되는 경우 상태를 변경하고 처리된 날짜로 delDate 변경
  */
 public class ReservationService {
 
     private final RestaurantRepository restaurantRepository;
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
+    private final ReservationNumberAllocator reservationNumberAllocator;
+    private final ReservationSlotInventory reservationSlotInventory;
+    private final TotalCountCache totalCountCache;
+    private final CacheManager cacheManager;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final ReservationEventHub reservationEventHub;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    static int reservationNum = 10000000;
-
-    static final String AUTO_CANCEL_MESSAGE = "예약 시간이 지나 자동 취소처리 되었습니다.";
+    public static final String AUTO_CANCEL_MESSAGE = "예약 시간이 지나 자동 취소처리 되었습니다.";
 
     // 회원이 예약 생성하는 서비스
     // 예약은 당일 예약만 가능
@@ -55,44 +78,39 @@ public class ReservationService {
         String restaurantName = request.getRestaurantName().trim();
         Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
 
-        // 이미 같은 매장에 진행 중인 예약이 있는 경우 확인
-        List<Reservation> reservationList = reservationRepository.findAllByReservationMemberAndReservationRestaurant(member, restaurant);
-        Reservation previousReservation = reservationList.stream()
-                .filter(r -> {
-                    LocalDateTime curReservationTime = stringToTodayLocalDateTime(request.getTime());
-                    LocalDateTime reservationTime = stringToTodayLocalDateTime(r.getReservationTime());
-
-                    if (r.getDelDate() != null) { // 승인 또는 거절 또는 취소된 예약인 경우
-                        if (Boolean.FALSE.equals(r.getIsAccept()) && curReservationTime.isEqual(reservationTime)) { // 거절된 예약과 같은 시간으로 예약하는 경우
-                            throw new ReservationException(ReservationErrorCode.IMPOSSIBLE_RESERVATION_FOR_DENIED);
-                        }
-
-                        // 승인된 예약이며 현재 예약하고자 하는 시간과 겹치는 경우
-                        return Boolean.TRUE.equals(r.getIsAccept()) && curReservationTime.isEqual(reservationTime);
-                    }
+        // 이미 같은 매장에 같은 시간으로 진행 중인 예약이 있는 경우 확인
+        // 오늘 같은 시간의 예약만 인덱스로 조회하므로 회원의 예약 이력이 늘어나도 조회 비용이 일정하다.
+        String time = request.getTime().trim();
+        List<Reservation> conflictList = reservationRepository.findAllConflictReservation(member, restaurant, LocalDate.now(), time);
+        if (conflictList.stream().anyMatch(r -> r.getStatus() == ReservationStatus.DENIED)) { // 거절된 예약과 같은 시간으로 예약하는 경우
+            throw new ReservationException(ReservationErrorCode.IMPOSSIBLE_RESERVATION_FOR_DENIED);
+        }
 
-                    // 대기중인 예약이 있고 현재 예약하고자 하는 시간과 겹치는 경우
-                    return curReservationTime.isEqual(reservationTime);
-                })
-                .findFirst()
-                .orElse(null);
-        if (previousReservation != null) { // 겹치는 예약이 있는 경우
+        if (!conflictList.isEmpty()) { // 대기중이거나 승인된 예약과 시간이 겹치는 경우
             throw new ReservationException(ReservationErrorCode.ALREADY_EXIST_RESERVATION);
         }
 
-        validReservationTime(restaurant, request.getTime().trim()); // 예약 시간이 가능한 시간인지 확인
+        validReservationTime(restaurant, time); // 예약 시간이 가능한 시간인지 확인
 
-        String reservationNumber = makeReservationNumber(String.valueOf(reservationNum)); // 예약 번호 생성
+        // 매장의 시간당 예약 가능 수가 정해진 경우 남은 자리가 있는지 확인
+        if (restaurant.getCapacity() != null && !reservationSlotInventory.tryReserve(restaurant.getId(), LocalDate.now(), time, restaurant.getCapacity())) {
+            throw new ReservationException(ReservationErrorCode.FULL_RESERVATION);
+        }
+
+        String reservationNumber = reservationNumberAllocator.allocate(); // 예약 번호 생성
 
         Reservation reservation = Reservation.builder()
                 .reservationNumber(reservationNumber)
                 .reservationMember(member)
                 .reservationRestaurant(restaurant)
-                .reservationTime(request.getTime().trim())
-                .isCancel(false)
-                .isVisit(false)
+                .reservationDate(LocalDate.now())
+                .reservationTime(time)
                 .build();
         Reservation save = reservationRepository.save(reservation);
+        totalCountCache.adjust(CacheKey.MEMBER_RESERVATION_COUNT_KEY + member.getId(), 1);
+        totalCountCache.adjust(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + restaurant.getId(), 1);
+        recordEvent(ReservationEvent.Type.CREATED, save);
+        reservationEventPublisher.publish(ReservationEvent.of(ReservationEvent.Type.CREATED, save));
 
         return save.toCreateResponse();
     }
@@ -107,7 +125,7 @@ public class ReservationService {
         Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
         String reservationNumber = request.getReservationNumber();
-        Reservation reservation = reservationRepository.findByReservationNumberAndDelDate(reservationNumber, null).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
+        Reservation reservation = reservationRepository.findByReservationNumberAndStatus(reservationNumber, ReservationStatus.PENDING).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
 
         if (validUsefulReservation(reservation)) { // 이미 방문 인증 시간이 지난 경우 자동 취소 처리
             throw new ReservationException(ReservationErrorCode.AUTO_CANCEL);
@@ -127,13 +145,15 @@ public class ReservationService {
         }
 
         String reason = request.getReason().trim();
-        Reservation canceledReservation = reservation.toBuilder()
-                .isCancel(true)
-                .isAccept(null)
+        Reservation canceledReservation = reservation.changeStatus(ReservationStatus.CANCELED)
                 .deniedMessage(reason)
                 .delDate(LocalDateTime.now())
                 .build();
         reservationRepository.save(canceledReservation);
+        totalCountCache.adjust(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + reservation.getReservationRestaurant().getId(), -1);
+        releaseSlot(canceledReservation); // 취소된 예약의 자리 반납
+        recordEvent(ReservationEvent.Type.CANCELED, canceledReservation);
+        reservationEventPublisher.publish(ReservationEvent.of(ReservationEvent.Type.CANCELED, canceledReservation));
 
         return checkForReservation(canceledReservation);
     }
@@ -143,7 +163,7 @@ public class ReservationService {
     public CheckForMemberReservationDto.Response acceptReservation(String managerId, String reservationNumber) {
         Member manager = memberRepository.findByUserId(managerId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
-        Reservation reservation = reservationRepository.findByReservationNumberAndDelDate(reservationNumber, null).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
+        Reservation reservation = reservationRepository.findByReservationNumberAndStatus(reservationNumber, ReservationStatus.PENDING).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
 
         if (reservation.getReservationRestaurant().getManager() != manager) { // 예약한 매장의 관리자가 아닌 경우
             throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
@@ -153,11 +173,12 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.AUTO_CANCEL);
         }
 
-        Reservation acceptedReservation = reservation.toBuilder()
-                .isAccept(true)
+        Reservation acceptedReservation = reservation.changeStatus(ReservationStatus.ACCEPTED)
                 .delDate(LocalDateTime.now())
                 .build();
         reservationRepository.save(acceptedReservation);
+        totalCountCache.adjust(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + reservation.getReservationRestaurant().getId(), -1);
+        recordEvent(ReservationEvent.Type.ACCEPTED, acceptedReservation);
 
         return checkForReservation(acceptedReservation);
     }
@@ -168,7 +189,7 @@ public class ReservationService {
         Member manager = memberRepository.findByUserId(managerId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
         String reservationNumber = request.getReservationNumber();
-        Reservation reservation = reservationRepository.findByReservationNumberAndDelDate(reservationNumber, null).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
+        Reservation reservation = reservationRepository.findByReservationNumberAndStatus(reservationNumber, ReservationStatus.PENDING).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
 
         if (reservation.getReservationRestaurant().getManager() != manager) { // 예약한 매장의 관리자가 아닌 경우
             throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
@@ -179,16 +200,109 @@ public class ReservationService {
         }
 
         String deniedMessage = request.getReason().trim();
-        Reservation deniedReservation = reservation.toBuilder()
-                .isAccept(false)
+        Reservation deniedReservation = reservation.changeStatus(ReservationStatus.DENIED)
                 .deniedMessage(deniedMessage)
                 .delDate(LocalDateTime.now())
                 .build();
         reservationRepository.save(deniedReservation);
+        totalCountCache.adjust(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + reservation.getReservationRestaurant().getId(), -1);
+        releaseSlot(deniedReservation); // 거절된 예약의 자리 반납
+        recordEvent(ReservationEvent.Type.DENIED, deniedReservation);
 
         return checkForReservation(deniedReservation);
     }
 
+    // 예약 일괄 승인 서비스
+    public List<BulkReservationDto.Result> acceptReservations(String managerId, BulkReservationDto.Request request) {
+        return processReservations(managerId, request.getReservationNumbers(), null);
+    }
+
+    // 예약 일괄 거절 서비스
+    public List<BulkReservationDto.Result> denyReservations(String managerId, BulkReservationDto.DenyRequest request) {
+        return processReservations(managerId, request.getReservationNumbers(), request.getReason().trim());
+    }
+
+    /*
+    예약 일괄 승인, 거절 (deniedMessage 가 null 인 경우 승인)
+    예약을 매장 관리자와 함께 잠그며 한 번에 조회하여 확인 후, 처리 가능한 예약만 한 번의 update 로 처리한다.
+    처리할 수 없는 예약은 예외 대신 예약 번호별 결과에 이유를 담아 반환한다.
+     */
+    private List<BulkReservationDto.Result> processReservations(String managerId, List<String> reservationNumbers, String deniedMessage) {
+        boolean accept = deniedMessage == null;
+        ReservationStatus next = accept ? ReservationStatus.ACCEPTED : ReservationStatus.DENIED;
+        List<String> numbers = reservationNumbers.stream().distinct().toList();
+        Map<String, Reservation> reservations = reservationRepository.findAllByReservationNumberIn(numbers).stream()
+                .collect(Collectors.toMap(Reservation::getReservationNumber, Function.identity()));
+
+        Map<String, ReservationErrorCode> failed = new HashMap<>();
+        List<Reservation> targets = new ArrayList<>();
+        for (String number : numbers) {
+            Reservation reservation = reservations.get(number);
+            if (reservation == null || reservation.getStatus() != ReservationStatus.PENDING) { // 없거나 이미 처리된 예약
+                failed.put(number, ReservationErrorCode.NOT_FOUND_RESERVATION);
+                continue;
+            }
+
+            Member manager = reservation.getReservationRestaurant().getManager();
+            if (manager == null || !managerId.equals(manager.getUserId())) { // 예약한 매장의 관리자가 아닌 경우
+                failed.put(number, ReservationErrorCode.DIFF_RESERVATION_MANAGER);
+            } else if (validUsefulReservation(reservation)) { // 이미 예약한 회원이 방문하지 않아 취소된 경우
+                failed.put(number, ReservationErrorCode.AUTO_CANCEL);
+            } else {
+                targets.add(reservation);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = targets.stream().map(Reservation::getId).toList();
+        if (!ids.isEmpty()) { // 조회 시 잠근 승인 대기중인 예약이므로 모두 처리됨
+            reservationRepository.changePendingStatus(ids, next, deniedMessage, now, ReservationStatus.PENDING);
+        }
+
+        Map<String, CheckForMemberReservationDto.Response> responses = new LinkedHashMap<>();
+        Map<Long, Long> processedPerRestaurant = new HashMap<>();
+        List<ReservationChangedEvent> events = new ArrayList<>();
+        for (Reservation reservation : targets) {
+            Reservation processed = reservation.changeStatus(next)
+                    .deniedMessage(accept ? reservation.getDeniedMessage() : deniedMessage)
+                    .delDate(now)
+                    .build();
+            responses.put(processed.getReservationNumber(), checkForReservation(processed));
+            processedPerRestaurant.merge(processed.getReservationRestaurant().getId(), 1L, Long::sum);
+            events.add(ReservationChangedEvent.of(processed));
+
+            if (!accept) {
+                releaseSlot(processed); // 거절된 예약의 자리 반납
+            }
+        }
+        processedPerRestaurant.forEach((restaurantId, count) -> totalCountCache.adjust(CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + restaurantId, -count));
+        putReservationCache(responses);
+        outboxService.appendAll(ReservationChangedEvent.AGGREGATE_TYPE, (accept ? ReservationEvent.Type.ACCEPTED : ReservationEvent.Type.DENIED).name(),
+                events, ReservationChangedEvent::reservationNumber);
+
+        return numbers.stream()
+                .map(number -> {
+                    ReservationErrorCode errorCode = failed.get(number);
+                    return BulkReservationDto.Result.builder()
+                            .reservationNumber(number)
+                            .success(errorCode == null)
+                            .failMessage(errorCode != null ? errorCode.getMessage() : null)
+                            .reservation(responses.get(number))
+                            .build();
+                })
+                .toList();
+    }
+
+    // 처리된 예약을 예약 캐시에 저장 (2단계 캐시인 경우 redis 에 한 번에 저장)
+    private void putReservationCache(Map<String, CheckForMemberReservationDto.Response> responses) {
+        Cache cache = cacheManager.getCache(CacheKey.RESERVATION_KEY);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putAll(responses);
+        } else if (cache != null) {
+            responses.forEach(cache::put);
+        }
+    }
+
     // 예약 방문 인증 서비스
     @CachePut(key = "#request.reservationNumber", value = CacheKey.RESERVATION_KEY)
     public CheckForMemberReservationDto.Response useReservation(UseReservationDto.Request request) {
@@ -204,7 +318,7 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.AUTO_CANCEL);
         }
 
-        if (!Boolean.TRUE.equals(reservation.getIsAccept())) { // 승인된 예약이 아닌 경우
+        if (reservation.getStatus() != ReservationStatus.ACCEPTED) { // 승인된 예약이 아닌 경우
             throw new ReservationException(ReservationErrorCode.IMPOSSIBLE_VISIT);
         }
 
@@ -216,10 +330,10 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_RESTAURANT);
         }
 
-        Reservation visitedReservation = reservation.toBuilder()
-                .isVisit(true)
+        Reservation visitedReservation = reservation.changeStatus(ReservationStatus.VISITED)
                 .build();
         reservationRepository.save(visitedReservation);
+        recordEvent(ReservationEvent.Type.VISITED, visitedReservation);
 
         // 회원에게 리뷰 작성 권한 부여하는 부분
         MemberRole reviewRole = MemberRole.builder()
@@ -232,21 +346,19 @@ public class ReservationService {
                 .memberRoles(memberRoles)
                 .build();
         memberRepository.save(withReviewRole);
+        eventPublisher.publishEvent(new MemberRolesChangedEvent(userId)); // 다시 로그인하지 않아도 리뷰 작성 권한 적용
 
-        return checkForReservation(reservation);
+        return checkForReservation(visitedReservation);
     }
 
     // 예약 상세 조회 서비스
     @Cacheable(key = "#reservationNumber", value = CacheKey.RESERVATION_KEY)
+    @Transactional(readOnly = true)
     public CheckForMemberReservationDto.Response checkReservation(String userId, String reservationNumber) {
         Member member = memberRepository.findByUserId(userId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
         Reservation reservation = reservationRepository.findByReservationNumber(reservationNumber).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
 
-        if (validUsefulReservation(reservation)) { // 방문 인증 시간 지났는지 확인하여 지났을 시 자동 취소 처리
-            reservation = reservationRepository.findByReservationNumber(reservationNumber).orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_RESERVATION));
-        }
-
         MemberRole memberRole = member.getMemberRoles().stream() // 회원이 관리자(점장)이 아닌 경우 null
                 .filter(r -> r.getRole().getName().equals("ADMIN"))
                 .findFirst()
@@ -280,13 +392,72 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
         }
 
-        Page<Reservation> reservationList = reservationRepository.findAllByReservationRestaurantAndDelDate(restaurant, null, pageable);
-        List<Reservation> content = reservationList.getContent();
+        List<Reservation> content = reservationRepository.findContentByReservationRestaurantAndStatus(restaurant, ReservationStatus.PENDING, pageable);
         List<CheckForManagerReservationDto.Response> list = content.stream()
                 .map(Reservation::toCheckForManagerResponse)
                 .toList();
 
-        return new PageImpl<>(list, pageable, list.size());
+        return totalCountCache.page(list, pageable, CacheKey.RESTAURANT_RESERVATION_COUNT_KEY + restaurant.getId(),
+                () -> reservationRepository.countByReservationRestaurantAndStatus(restaurant, ReservationStatus.PENDING));
+    }
+
+    // 점장이 매장 예약 목록을 커서 페이징으로 확인하는 서비스
+    // 먼저 등록된 예약 순 정렬, 커서 이후의 예약을 size 개 가져온다.
+    @Transactional(readOnly = true)
+    public CursorPage<CheckForManagerReservationDto.Response> checkForManagerReservation(String memberId, String restaurantName, String cursor, int size) {
+        Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+
+        Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
+
+        if (restaurant.getManager() != member) { // 조회하려는 식당이 관리자의 식당이 아닌 경우
+            throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
+        }
+
+        Cursor after = Cursor.decode(cursor, () -> new ReservationException(ReservationErrorCode.NOT_VALID_CURSOR));
+        PageRequest limit = PageRequest.of(0, size + 1); // 다음 페이지 확인용 1개 추가
+
+        List<Reservation> reservations = after == null
+                ? reservationRepository.findByRestaurantAndStatus(restaurant, ReservationStatus.PENDING, limit)
+                : reservationRepository.findByRestaurantAndStatusAfter(restaurant, ReservationStatus.PENDING, after.regDate(), after.id(), limit);
+
+        return CursorPage.of(reservations, size, r -> new Cursor(r.getRegDate(), r.getId()), Reservation::toCheckForManagerResponse);
+    }
+
+    // 점장이 매장의 예약 생성, 취소 이벤트를 실시간으로 받는 서비스 (SSE)
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeReservationEvents(String memberId, String restaurantName) {
+        Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+
+        Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
+
+        if (restaurant.getManager() != member) { // 구독하려는 식당이 관리자의 식당이 아닌 경우
+            throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
+        }
+
+        return reservationEventHub.subscribe(restaurant.getId());
+    }
+
+    // 점장이 매장의 오늘 예약 현황을 상태별 예약 수로 확인하는 서비스
+    // (매장, 상태, 예약 날짜) 인덱스 범위만 읽어 집계한다.
+    @Transactional(readOnly = true)
+    public Map<ReservationStatus, Long> checkReservationStatus(String memberId, String restaurantName) {
+        Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+
+        Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
+
+        if (restaurant.getManager() != member) { // 조회하려는 식당이 관리자의 식당이 아닌 경우
+            throw new ReservationException(ReservationErrorCode.DIFF_RESERVATION_MANAGER);
+        }
+
+        Map<ReservationStatus, Long> counts = new EnumMap<>(ReservationStatus.class);
+        for (ReservationStatus status : ReservationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : reservationRepository.countByStatus(restaurant, LocalDate.now())) {
+            counts.put((ReservationStatus) row[0], (Long) row[1]);
+        }
+
+        return counts;
     }
 
     /*
@@ -294,33 +465,35 @@ public class ReservationService {
     페이징 처리
     최신순 정렬
      */
+    @Transactional(readOnly = true)
     public Page<CheckForMemberReservationDto.Response> checkForMemberReservation(String memberId, Pageable pageable) {
         Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
-        Page<Reservation> reservationList = reservationRepository.findAllByReservationMember(member, pageable);
+        List<Reservation> content = reservationRepository.findContentByReservationMember(member, pageable);
         List<CheckForMemberReservationDto.Response> newList = new ArrayList<>();
-        List<Reservation> content = reservationList.getContent();
         for (Reservation reservation : content) {
             CheckForMemberReservationDto.Response response = checkForReservation(reservation);
             newList.add(response);
         }
 
-        return new PageImpl<>(newList, pageable, newList.size());
+        return totalCountCache.page(newList, pageable, CacheKey.MEMBER_RESERVATION_COUNT_KEY + member.getId(),
+                () -> reservationRepository.countByReservationMember(member));
     }
 
-    // 혹시 모를 예약번호 중복 확인
-    private String makeReservationNumber(String reservationNumber) {
-        reservationNum++;
-        if (reservationNum > 99999999) {
-            reservationNum = 10000000;
-        }
+    // 회원이 예약 목록을 커서 페이징으로 조회하는 서비스
+    // 최신순 정렬, 커서 이전의 예약을 size 개 가져온다.
+    @Transactional(readOnly = true)
+    public CursorPage<CheckForMemberReservationDto.Response> checkForMemberReservation(String memberId, String cursor, int size) {
+        Member member = memberRepository.findByUserId(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
-        // 중복 확인
-        if (reservationRepository.existsByReservationNumberAndDelDate(reservationNumber, null)) {
-            makeReservationNumber(String.valueOf(reservationNum));
-        }
+        Cursor after = Cursor.decode(cursor, () -> new ReservationException(ReservationErrorCode.NOT_VALID_CURSOR));
+        PageRequest limit = PageRequest.of(0, size + 1); // 다음 페이지 확인용 1개 추가
+
+        List<Reservation> reservations = after == null
+                ? reservationRepository.findLatestByMember(member, limit)
+                : reservationRepository.findOlderByMember(member, after.regDate(), after.id(), limit);
 
-        return reservationNumber;
+        return CursorPage.of(reservations, size, r -> new Cursor(r.getRegDate(), r.getId()), this::checkForReservation);
     }
 
     // 매장의 오픈 시간과 마감 시간 사이의 시간으로 예약을 했는지 확인
@@ -366,66 +539,58 @@ public class ReservationService {
         return LocalDateTime.of(year, month, day, stringToTime, 0);
     }
 
-    // 예약이 방문 인증 시간을 이미 지난 예약인지 확인
+    // 시간당 예약 가능 수가 정해진 매장의 예약 자리 반납
+    private void releaseSlot(Reservation reservation) {
+        Restaurant restaurant = reservation.getReservationRestaurant();
+        if (restaurant.getCapacity() != null) {
+            reservationSlotInventory.release(restaurant.getId(), reservation.getReservationDate(), reservation.getReservationTime());
+        }
+    }
+
+    // 예약이 방문 인증 시간을 이미 지난 진행 중인 예약인지 확인 (자동 취소 대상)
+    // 실제 자동 취소 처리는 ReservationAutoCancelScheduler 가 일괄로 처리하므로 조회 시에는 DB에 쓰지 않는다.
     private boolean validUsefulReservation(Reservation reservation) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime reservationTime = stringToTodayLocalDateTime(reservation.getReservationTime());
+        LocalDateTime reservationTime = reservation.getReservationDate().atTime(Integer.parseInt(reservation.getReservationTime()), 0);
         LocalDateTime visitTime = reservationTime.minusMinutes(10);
 
-        if (!reservation.isVisit() && now.isAfter(visitTime)) { // 이미 방문 인증 시간이 지난 경우 자동 취소 처리
-            Reservation autoCancel = reservation.toBuilder()
-                    .isAccept(null)
-                    .isVisit(false)
-                    .isCancel(true)
-                    .deniedMessage(AUTO_CANCEL_MESSAGE)
-                    .delDate(reservation.getDelDate() != null ? reservation.getDelDate() : LocalDateTime.now())
-                    .build();
-            reservationRepository.save(autoCancel);
-
-            return true;
-        }
+        return ReservationStatus.ACTIVE.contains(reservation.getStatus()) && now.isAfter(visitTime);
+    }
 
-        return false;
+    // 예약 상태 변경 이벤트를 같은 트랜잭션으로 outbox 에 저장
+    private void recordEvent(ReservationEvent.Type type, Reservation reservation) {
+        outboxService.append(ReservationChangedEvent.AGGREGATE_TYPE, reservation.getReservationNumber(), type.name(), ReservationChangedEvent.of(reservation));
     }
 
     // CheckFroMemberReservationDtoResponse로 변경하는 메소드
     private CheckForMemberReservationDto.Response checkForReservation(Reservation reservation) {
         CheckForMemberReservationDto.Response response = reservation.toCheckForMemberResponse();
-        CheckForMemberReservationDto.Response result = null;
 
-        if (validUsefulReservation(reservation)) { // 사용 가능한 예약인지 확인
+        if (validUsefulReservation(reservation)) { // 방문 인증 시간이 지난 예약은 자동 취소 상태로 표시
             return response.toBuilder()
                     .detailMessage(CheckForMemberReservationDto.DetailMessage.CANCEL.getMessage())
                     .deniedMessage(AUTO_CANCEL_MESSAGE)
                     .build();
         }
 
-        if (reservation.getDelDate() == null) { // 예약 신청만 되어있는 상태(예약 승인 대기중)
-            result = response.toBuilder()
+        return switch (reservation.getStatus()) {
+            case PENDING -> response.toBuilder() // 예약 신청만 되어있는 상태(예약 승인 대기중)
                     .detailMessage(CheckForMemberReservationDto.DetailMessage.WAIT.getMessage())
                     .build();
-        } else { // 예약이 처리 결과가 있는 경우 (예: 예약 승인 또는 거절, 취소, 방문 완료 등)
-            if (Boolean.TRUE.equals(reservation.getIsAccept())) { // 승인된 예약
-                result = response.toBuilder()
-                        .detailMessage(CheckForMemberReservationDto.DetailMessage.ACCEPT.getMessage())
-                        .build();
-            } else if (Boolean.FALSE.equals(reservation.getIsAccept())) { // 거절된 예약
-                result = response.toBuilder()
-                        .deniedMessage(CheckForMemberReservationDto.DetailMessage.DENY.getMessage())
-                        .deniedMessage(reservation.getDeniedMessage())
-                        .build();
-            } else if (reservation.isVisit()) { // 방문 완료한 예약
-                result = response.toBuilder()
-                        .detailMessage(CheckForMemberReservationDto.DetailMessage.VISIT.getMessage())
-                        .build();
-            } else if (reservation.isCancel()) { // 취소된 예약
-                result = response.toBuilder()
-                        .detailMessage(CheckForMemberReservationDto.DetailMessage.CANCEL.getMessage())
-                        .deniedMessage(reservation.getDeniedMessage())
-                        .build();
-            }
-        }
-
-        return result;
+            case ACCEPTED -> response.toBuilder()
+                    .detailMessage(CheckForMemberReservationDto.DetailMessage.ACCEPT.getMessage())
+                    .build();
+            case DENIED -> response.toBuilder()
+                    .detailMessage(CheckForMemberReservationDto.DetailMessage.DENY.getMessage())
+                    .deniedMessage(reservation.getDeniedMessage())
+                    .build();
+            case VISITED -> response.toBuilder()
+                    .detailMessage(CheckForMemberReservationDto.DetailMessage.VISIT.getMessage())
+                    .build();
+            case CANCELED, AUTO_CANCELED -> response.toBuilder() // 회원 취소 또는 자동 취소 (취소 사유 함께 표시)
+                    .detailMessage(CheckForMemberReservationDto.DetailMessage.CANCEL.getMessage())
+                    .deniedMessage(reservation.getDeniedMessage())
+                    .build();
+        };
     }
 }
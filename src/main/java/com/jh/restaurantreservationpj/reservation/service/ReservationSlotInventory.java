@@ -0,0 +1,98 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import com.jh.restaurantreservationpj.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+매장의 시간대별 예약 가능 수를 관리하는 재고
+redis 카운터를 lua 스크립트로 원자적으로 증가시켜 직렬화 트랜잭션 없이 초과 예약을 막는다.
+카운터가 없는 경우(첫 예약, redis 재시작 등)에만 DB에서 현재 예약 수를 세어 카운터를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotInventory {
+
+    private static final String SLOT_KEY_PREFIX = "reservation:slot:";
+    private static final Duration SLOT_TTL = Duration.ofDays(2); // 당일 예약만 가능하므로 이틀 뒤 만료
+
+    // 카운터가 없으면 -1, 예약 가능 수를 넘으면 0, 성공 시 1
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "local used = redis.call('INCR', KEYS[1]) " +
+                    "if used > tonumber(ARGV[1]) then redis.call('DECR', KEYS[1]) return 0 end " +
+                    "return 1", Long.class);
+
+    // 카운터가 0보다 큰 경우에만 감소
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local used = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+                    "if used > 0 then return redis.call('DECR', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReservationRepository reservationRepository;
+
+    // 예약 자리 차지
+    // 트랜잭션 안에서 호출된 경우 트랜잭션이 롤백되면 차지한 자리를 돌려놓는다.
+    public boolean tryReserve(Long restaurantId, LocalDate reservationDate, String reservationTime, int capacity) {
+        String key = slotKey(restaurantId, reservationDate, reservationTime);
+        List<String> keys = List.of(key);
+        String capacityArg = String.valueOf(capacity);
+
+        Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, capacityArg);
+        if (result != null && result == -1) { // 카운터가 없는 경우 DB의 예약 수로 카운터 생성 후 다시 시도
+            long reserved = reservationRepository.countActiveInSlot(restaurantId, reservationDate, reservationTime);
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(reserved), SLOT_TTL);
+            result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, capacityArg);
+        }
+
+        boolean reserved = result != null && result == 1;
+        if (reserved && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseNow(key);
+                    }
+                }
+            });
+        }
+
+        return reserved;
+    }
+
+    // 예약 자리 반납 (예약 취소, 거절 시)
+    // 트랜잭션 안에서 호출된 경우 커밋된 이후에 반납한다.
+    public void release(Long restaurantId, LocalDate reservationDate, String reservationTime) {
+        String key = slotKey(restaurantId, reservationDate, reservationTime);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(key);
+            }
+        });
+    }
+
+    private void releaseNow(String key) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key));
+    }
+
+    private static String slotKey(Long restaurantId, LocalDate reservationDate, String reservationTime) {
+        return SLOT_KEY_PREFIX + restaurantId + ":" + reservationDate + ":" + reservationTime;
+    }
+}
@@ -10,6 +10,8 @@ import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
 import com.jh.restaurantreservationpj.restaurant.service.RestaurantService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +23,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/restaurants")
 @RequiredArgsConstructor
@@ -81,6 +85,16 @@ public class RestaurantController {
         return ResponseEntity.ok(GlobalResponse.toGlobalResponse(searched));
     }
 
+    // 매장 이름 자동 완성 컨트롤러
+    // 검색한 문자로 시작하는 매장 이름을 오름차순으로 size 개 조회
+    @GetMapping("/autocomplete")
+    public ResponseEntity<GlobalResponse<List<String>>> autocomplete(@RequestParam @NotBlank(message = "검색어를 입력해주세요.") String word,
+                                                                     @RequestParam(defaultValue = "10") @Min(value = 1, message = "1개 이상 조회하여야 합니다.") @Max(value = 20, message = "20개 이하로 조회하여야 합니다.") int size) {
+        List<String> names = restaurantService.autocomplete(word, size);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(names));
+    }
+
     // 매장 상세 조회 컨트롤러
     @GetMapping("/restaurant/{restaurantName}")
     public ResponseEntity<GlobalResponse<CheckRestaurantDto.Response>> check(@PathVariable @NotBlank(message = "매장 이름을 입력해주세요.") String restaurantName) {
@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.restaurant.domain;
 
 import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.restaurant.dto.CheckRestaurantDto;
 import com.jh.restaurantreservationpj.restaurant.dto.CreateRestaurantDto;
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 public class Restaurant extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id; // PK
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +44,9 @@ public class Restaurant extends BaseTimeEntity {
     @Column
     private String closeTime; // 마감 시간
 
+    @Column
+    private Integer capacity; // 시간당 받을 수 있는 예약 수(null인 경우 제한 없음)
+
     @Column
     private LocalDateTime delDate; // 삭제 날짜
 
@@ -61,6 +65,7 @@ public class Restaurant extends BaseTimeEntity {
                 .totalAddress(totalAddress)
                 .openTime(openTime != null ? openTime + "시" : null)
                 .closeTime(closeTime != null ? closeTime + "시" : null)
+                .capacity(capacity)
                 .build();
     }
 }
@@ -15,5 +15,6 @@ public class CheckRestaurantDto {
         private String description; // 매장 설명
         private String openTime; // 오픈 시간
         private String closeTime; // 마감 시간
+        private Integer capacity; // 시간당 받을 수 있는 예약 수
     }
 }
@@ -2,6 +2,7 @@ package com.jh.restaurantreservationpj.restaurant.dto;
 
 import com.jh.restaurantreservationpj.validation.NotNullPattern;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 // 매장 수정 시 dto
@@ -26,5 +27,8 @@ public class ModifiedRestaurantDto {
 
         @NotNullPattern
         private String closeTime; // 매장 마감 시간
+
+        @Positive(message = "시간당 예약 가능 수는 1 이상이어야 합니다.")
+        private Integer capacity; // 시간당 받을 수 있는 예약 수(null인 경우 제한 없음)
     }
 }
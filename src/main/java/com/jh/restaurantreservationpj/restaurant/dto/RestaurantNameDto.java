@@ -0,0 +1,12 @@
+package com.jh.restaurantreservationpj.restaurant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 인덱스 구성 시 매장 아이디와 이름만 조회하는 dto
+@Getter
+@AllArgsConstructor
+public class RestaurantNameDto {
+    private Long id; // 매장 아이디
+    private String name; // 매장명
+}
@@ -1,11 +1,14 @@
 package com.jh.restaurantreservationpj.restaurant.repository;
 
 import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
+import com.jh.restaurantreservationpj.restaurant.dto.RestaurantNameDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +18,12 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     Optional<Restaurant> findByName(String name); // 매장 이름으로 엔티티 찾기
 
     Page<Restaurant> findAllByNameStartingWithIgnoreCaseOrNameContainingIgnoreCaseOrderByNameAsc(String prefix1, String prefix2, Pageable pageable); // 검색한 문자로 시작하거나 검색한 문자를 포함하는 매장을 오름차순으로 정렬하여 가져오는 쿼리 메소드
+
+    List<Restaurant> findAllByNameStartingWithIgnoreCaseOrderByNameAsc(String prefix, Pageable pageable); // 검색한 문자로 시작하는 매장을 오름차순으로 정렬하여 가져오는 쿼리 메소드 (자동 완성)
+
+    List<Restaurant> findAllBy(Pageable pageable); // count 쿼리 없이 현재 페이지의 매장만 조회
+
+    // 검색 인덱스 적재용 매장 아이디, 이름 전체 조회
+    @Query("select new com.jh.restaurantreservationpj.restaurant.dto.RestaurantNameDto(r.id, r.name) from Restaurant r")
+    List<RestaurantNameDto> findAllNames();
 }
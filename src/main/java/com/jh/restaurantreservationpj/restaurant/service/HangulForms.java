@@ -0,0 +1,111 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+한글 검색용 변환
+- 초성 : "버거 집" -> "ㅂㄱㅈ" (공백 제외)
+- 자모 : "버거집" -> "|ㅂㅓ|ㄱㅓ|ㅈㅣㅂ|" (글자마다 구분자, 겹받침/겹모음은 나누어 "닭" -> "ㄷㅏㄹㄱ")
+자모 형태의 검색어는 마지막 글자를 입력 중인 글자로 보고 끝 구분자를 붙이지 않는다.
+"버거지", "버거ㅈ" 는 "|ㅂㅓ|ㄱㅓ|ㅈㅣ", "|ㅂㅓ|ㄱㅓ|ㅈ" 가 되어 "버거집" 과 일치한다.
+ */
+final class HangulForms {
+
+    static final char SEPARATOR = '|';
+
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_START = 'ㄱ'; // 호환용 자음 시작
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulForms() {
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_START && c <= SYLLABLE_END;
+    }
+
+    static boolean containsHangul(String text) {
+        return text.chars().anyMatch(c -> isSyllable((char) c) || (c >= CONSONANT_START && c <= 'ㅣ'));
+    }
+
+    // 공백을 제외한 모든 글자가 자음인 경우 (초성 검색)
+    static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (char c : text.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < CONSONANT_START || c > CONSONANT_END) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+
+        return hasConsonant;
+    }
+
+    // 초성 형태 (한글이 아닌 글자는 그대로, 공백은 제외)
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_START) / 588) : c);
+        }
+
+        return sb.toString();
+    }
+
+    // 매장 이름의 자모 형태
+    static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 4 + 1).append(SEPARATOR);
+        for (char c : text.toCharArray()) {
+            sb.append(decompose(c)).append(SEPARATOR);
+        }
+
+        return sb.toString();
+    }
+
+    // 검색어의 자모 형태
+    // 마지막 글자에 받침이 있는 경우 다음 글자의 초성을 입력 중일 수 있으므로 ("버겆" -> "버거집") 받침을 다음 글자로 옮긴 형태도 함께 확인
+    static List<String> jamoPatterns(String query) {
+        StringBuilder sb = new StringBuilder(query.length() * 4);
+        for (int i = 0; i < query.length(); i++) {
+            sb.append(SEPARATOR).append(decompose(query.charAt(i)));
+        }
+
+        List<String> patterns = new ArrayList<>();
+        patterns.add(sb.toString());
+
+        char last = query.charAt(query.length() - 1);
+        if (isSyllable(last) && (last - SYLLABLE_START) % 28 != 0) {
+            char finalJamo = sb.charAt(sb.length() - 1);
+            sb.setLength(sb.length() - 1);
+            patterns.add(sb.append(SEPARATOR).append(finalJamo).toString());
+        }
+
+        return patterns;
+    }
+
+    private static String decompose(char c) {
+        if (!isSyllable(c)) {
+            return String.valueOf(c);
+        }
+
+        int index = c - SYLLABLE_START;
+        return CHOSUNG.charAt(index / 588) + JUNGSUNG[(index % 588) / 28] + JONGSUNG[index % 28];
+    }
+}
@@ -0,0 +1,30 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+매장 검색 인덱스 적재
+서버 시작 시 바로 적재하고, 다른 서버의 변경 알림을 놓친 경우(redis 장애 등)를 위해 주기적으로 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantIndexLoader {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${restaurant.search-index.refresh-interval:600000}")
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        restaurantSearchIndex.rebuild(restaurantRepository::findAllNames); // 조회 중에 커밋된 변경을 놓치지 않도록 인덱스가 조회 시점을 정한다.
+
+        log.info("매장 검색 인덱스 적재 = {}건, {}ms", restaurantSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/*
+매장 등록, 수정, 삭제를 현재 서버의 검색 인덱스에 반영하고 redis 채널로 다른 서버에 알림
+알림은 커밋 후 보내며, 다른 서버에서 온 알림은 해당 서버의 인덱스에 바로 반영한다.
+알림을 놓친 서버(redis 장애 등)나 같은 매장을 여러 서버에서 동시에 변경하여 순서가 바뀐 경우는 주기적인 재적재(RestaurantIndexLoader)로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantIndexPublisher implements MessageListener {
+
+    public static final String CHANNEL = "restaurant:index";
+
+    private static final String SEPARATOR = "\n";
+
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 알림을 구분하기 위한 노드 아이디
+
+    @PostConstruct
+    void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 매장 등록, 이름 변경
+    public void put(Long id, String name) {
+        restaurantSearchIndex.add(id, name);
+        publishAfterCommit(nodeId + SEPARATOR + id + SEPARATOR + name);
+    }
+
+    // 매장 삭제
+    public void remove(Long id) {
+        restaurantSearchIndex.remove(id);
+        publishAfterCommit(nodeId + SEPARATOR + id);
+    }
+
+    // 다른 서버에서 온 변경 알림 처리 (노드 아이디, 매장 아이디, 이름 - 이름이 없으면 삭제)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) { // 자신이 보낸 알림은 무시
+            return;
+        }
+
+        Long id;
+        try {
+            id = Long.valueOf(parts[1]);
+        } catch (NumberFormatException e) {
+            log.error("매장 인덱스 알림 형식 오류 = {}", parts[1]);
+            return;
+        }
+
+        if (parts.length == 3) {
+            restaurantSearchIndex.add(id, parts[2]);
+        } else {
+            restaurantSearchIndex.remove(id);
+        }
+    }
+
+    private void publishAfterCommit(String message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+
+    // 알림 실패는 다음 재적재 때 해소되므로 요청을 실패시키지 않는다.
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("매장 인덱스 알림 실패 = {}", e.getMessage());
+        }
+    }
+}
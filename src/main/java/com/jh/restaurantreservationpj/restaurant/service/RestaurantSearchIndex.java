@@ -0,0 +1,385 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import com.jh.restaurantreservationpj.restaurant.dto.RestaurantNameDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/*
+매장 이름 검색용 메모리 인덱스
+매장 이름을 1~3글자 단위(n-gram)로 나눈 역색인으로 검색어를 포함하는 매장을 찾는다.
+- 검색어가 3글자 이상인 경우 : 검색어의 trigram 을 모두 가진 매장 중 검색어를 포함하는 매장
+- 검색어가 3글자 미만인 경우 : 검색어와 같은 1, 2글자 조각을 가진 매장 (조각 목록이 곧 결과)
+한글 검색어는 입력 형태에 따라 다르게 찾는다. (HangulForms)
+- 초성만 입력한 경우 ("ㅂㄱㅈ") : 매장 이름의 초성 형태에 대한 역색인
+- 그 외 한글 ("버거지", "버거ㅈ") : 마지막 글자를 제외한 부분으로 후보를 찾고 자모 형태로 확인
+  (한 글자만 입력한 경우 ("달") 마지막 글자의 초성을 가진 매장이 후보)
+검색 결과는 소문자 이름, 아이디 순서의 순위로 정렬하고, 페이지에 필요한 앞부분만 크기가 제한된 힙으로 고른다.
+(순위는 적재 시 한 번 매기고, 이후 등록, 수정된 매장은 앞뒤 매장 순위의 사이 값을 사용한다.)
+자동 완성은 정렬된 매장 이름 목록에서 검색어로 시작하는 구간의 앞부분을 가져온다.
+매장 등록, 수정, 삭제는 트랜잭션이 커밋된 후 반영한다. (롤백된 변경이 다른 요청에 보이지 않도록)
+처음 적재(rebuild)가 끝나기 전과 현재 트랜잭션의 변경이 아직 반영되지 않은 동안에는 사용할 수 없다. (isReady)
+ */
+@Component
+public class RestaurantSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final char KEY_SEPARATOR = '\u0000'; // 자동 완성 키의 이름과 아이디 구분 (같은 이름의 매장 구분)
+    private static final long RANK_GAP = 1L << 16; // 순위 사이 간격 (사이에 등록되는 매장의 순위로 사용)
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+    private List<Consumer<Snapshot>> journal; // 재적재 중 변경 내용 (재적재가 끝나면 새 인덱스에 다시 반영)
+
+    // 현재 트랜잭션에서 변경한 매장은 커밋 전까지 인덱스에 없으므로 db 에서 검색하도록 false 를 반환
+    public boolean isReady() {
+        return ready && !TransactionSynchronizationManager.hasResource(this);
+    }
+
+    public int size() {
+        return snapshot.names.size();
+    }
+
+    /**
+     * 검색어를 포함하는 매장 아이디를 이름 오름차순으로 offset 부터 limit 개 조회
+     */
+    public SearchResult search(String word, long offset, int limit) {
+        Snapshot current = snapshot;
+        Match match = match(fold(word), current);
+        Map<Long, Long> ranks = current.ranks;
+
+        // 순위가 가장 낮은(뒤쪽) 매장이 맨 위에 있는 힙에 앞쪽 offset + limit 개만 남긴다.
+        long size = offset + limit;
+        PriorityQueue<Ranked> top = new PriorityQueue<>(Comparator.comparingLong(Ranked::rank).reversed());
+        long total = 0;
+        for (Long id : match.candidates()) {
+            Long rank = ranks.get(id);
+            if (rank == null || !match.matcher().test(id)) {
+                continue;
+            }
+
+            total++;
+            if (top.size() < size) {
+                top.add(new Ranked(rank, id));
+            } else if (!top.isEmpty() && rank < top.peek().rank()) {
+                top.poll();
+                top.add(new Ranked(rank, id));
+            }
+        }
+
+        List<Ranked> page = new ArrayList<>(top);
+        page.sort(Comparator.comparingLong(Ranked::rank));
+        List<Long> ids = page.stream()
+                .skip(offset)
+                .map(Ranked::id)
+                .toList();
+
+        return new SearchResult(ids, total);
+    }
+
+    // 검색어로 확인할 후보 매장 수 (역색인으로 좁힌 결과)
+    long countCandidates(String word) {
+        return match(fold(word), snapshot).candidates().size();
+    }
+
+    // 검색어 형태에 따라 후보 매장과 확인 방법을 정한다.
+    private static Match match(String query, Snapshot current) {
+        if (HangulForms.isChosungQuery(query)) {
+            String chosung = HangulForms.chosung(query);
+            return new Match(current.candidates(chosung, current.chosungGrams),
+                    id -> contains(current.chosungForms.get(id), chosung));
+        }
+
+        if (HangulForms.containsHangul(query)) {
+            List<String> patterns = HangulForms.jamoPatterns(query);
+            String typed = query.substring(0, query.length() - 1); // 입력 중인 마지막 글자 제외
+            String chosung = HangulForms.chosung(query);
+            Set<Long> candidates;
+            if (!typed.isEmpty()) {
+                candidates = current.candidates(typed, current.grams);
+            } else if (HangulForms.isChosungQuery(chosung)) { // 한 글자인 경우 초성으로 좁힌다.
+                candidates = current.candidates(chosung, current.chosungGrams);
+            } else {
+                candidates = current.names.keySet(); // 모음만 입력한 경우
+            }
+            return new Match(candidates, id -> patterns.stream().anyMatch(pattern -> contains(current.jamoForms.get(id), pattern)));
+        }
+
+        return new Match(current.candidates(query, current.grams), id -> contains(current.foldedNames.get(id), query));
+    }
+
+    /**
+     * 검색어로 시작하는 매장 이름을 오름차순으로 limit 개 조회
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        String from = fold(prefix);
+        NavigableMap<String, String> range = snapshot.sortedNames.subMap(from, true, from + Character.MAX_VALUE, false);
+
+        return range.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    // 매장 등록
+    public void add(Long id, String name) {
+        afterCommit(s -> s.put(id, name));
+    }
+
+    // 매장 이름 변경
+    public void update(Long id, String name) {
+        add(id, name);
+    }
+
+    // 매장 삭제
+    public void remove(Long id) {
+        afterCommit(s -> s.remove(id));
+    }
+
+    // db 에서 읽은 매장 목록으로 인덱스를 새로 만든다.
+    // 조회 전에 변경 기록을 시작하여 조회 중이나 조회 후에 커밋된 변경을 새 인덱스에 다시 반영한 뒤 교체한다.
+    // (조회 결과에 이미 있는 변경을 다시 반영해도 결과는 같다.)
+    public void rebuild(Supplier<List<RestaurantNameDto>> loader) {
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+
+        Snapshot fresh = new Snapshot();
+        try {
+            fresh.load(loader.get());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            journal.forEach(change -> change.accept(fresh));
+            journal = null;
+            snapshot = fresh;
+            ready = true;
+        }
+    }
+
+    private synchronized void apply(Consumer<Snapshot> change) {
+        change.accept(snapshot);
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    // 트랜잭션 안에서는 커밋 후 반영하고, 완료될 때까지 현재 트랜잭션의 검색은 db 에서 한다.
+    private void afterCommit(Consumer<Snapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RestaurantSearchIndex.this);
+            }
+        });
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean contains(String form, String query) {
+        return form != null && form.contains(query);
+    }
+
+    // 검색 결과 (현재 페이지의 매장 아이디, 전체 개수)
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    // 후보 매장과 검색어 포함 여부 확인
+    private record Match(Set<Long> candidates, Predicate<Long> matcher) {
+    }
+
+    private record Ranked(long rank, Long id) {
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, String> names = new ConcurrentHashMap<>();
+        private final Map<Long, String> foldedNames = new ConcurrentHashMap<>(); // 소문자 이름
+        private final Map<Long, String> chosungForms = new ConcurrentHashMap<>(); // 초성 형태
+        private final Map<Long, String> jamoForms = new ConcurrentHashMap<>(); // 자모 형태
+        private final Map<String, Set<Long>> grams = new ConcurrentHashMap<>(); // 1~3글자 조각 -> 매장 아이디
+        private final Map<String, Set<Long>> chosungGrams = new ConcurrentHashMap<>(); // 초성 형태의 1~3글자 조각 -> 매장 아이디
+        private final ConcurrentSkipListMap<String, String> sortedNames = new ConcurrentSkipListMap<>(); // 자동 완성용 (소문자 이름 + 아이디 -> 이름)
+        private volatile Map<Long, Long> ranks = new ConcurrentHashMap<>(); // 매장 아이디 -> 검색 결과 정렬 순위 (소문자 이름, 아이디 순서)
+
+        // 매장 목록을 모두 넣은 뒤 한 번에 순위를 매긴다.
+        private void load(List<RestaurantNameDto> restaurants) {
+            restaurants.forEach(r -> index(r.getId(), r.getName()));
+            renumber();
+        }
+
+        private void put(Long id, String name) {
+            index(id, name);
+            rank(sortKey(id, name), id);
+        }
+
+        private void index(Long id, String name) {
+            String previous = names.put(id, name);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            String folded = fold(name);
+            String chosung = HangulForms.chosung(folded);
+            foldedNames.put(id, folded);
+            chosungForms.put(id, chosung);
+            jamoForms.put(id, HangulForms.jamo(folded));
+            allGrams(folded).forEach(gram -> addGram(grams, gram, id));
+            allGrams(chosung).stream()
+                    .filter(HangulForms::isChosungQuery) // 초성 검색어와 일치할 수 있는 조각만
+                    .forEach(gram -> addGram(chosungGrams, gram, id));
+            sortedNames.put(sortKey(id, name), name);
+        }
+
+        private void remove(Long id) {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+                foldedNames.remove(id);
+                chosungForms.remove(id);
+                jamoForms.remove(id);
+            }
+        }
+
+        private void unindex(Long id, String name) {
+            String folded = fold(name);
+            allGrams(folded).forEach(gram -> removeGram(grams, gram, id));
+            allGrams(HangulForms.chosung(folded)).forEach(gram -> removeGram(chosungGrams, gram, id));
+            sortedNames.remove(sortKey(id, name));
+            ranks.remove(id);
+        }
+
+        // 새로 등록, 수정된 매장의 순위를 앞뒤 매장 순위의 가운데 값으로 정한다. (사이에 빈 값이 없으면 모두 다시 매김)
+        private void rank(String key, Long id) {
+            Long lower = rankOf(sortedNames.lowerKey(key));
+            Long higher = rankOf(sortedNames.higherKey(key));
+            if (lower == null && higher == null) {
+                ranks.put(id, 0L);
+            } else if (lower == null) {
+                ranks.put(id, higher - RANK_GAP);
+            } else if (higher == null) {
+                ranks.put(id, lower + RANK_GAP);
+            } else if (higher - lower > 1) {
+                ranks.put(id, lower + (higher - lower) / 2);
+            } else {
+                renumber();
+            }
+        }
+
+        private Long rankOf(String key) {
+            return key == null ? null : ranks.get(idOf(key));
+        }
+
+        // 정렬된 이름 순서대로 순위를 새로 매긴 뒤 교체 (검색 중인 요청은 이전 순위를 계속 사용)
+        private void renumber() {
+            Map<Long, Long> renumbered = new ConcurrentHashMap<>();
+            long rank = 0;
+            for (String key : sortedNames.keySet()) {
+                renumbered.put(idOf(key), rank);
+                rank += RANK_GAP;
+            }
+            ranks = renumbered;
+        }
+
+        private static void addGram(Map<String, Set<Long>> index, String gram, Long id) {
+            index.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private static String sortKey(Long id, String name) {
+            return fold(name) + KEY_SEPARATOR + id;
+        }
+
+        private static Long idOf(String sortKey) {
+            return Long.valueOf(sortKey.substring(sortKey.lastIndexOf(KEY_SEPARATOR) + 1));
+        }
+
+        private static void removeGram(Map<String, Set<Long>> index, String gram, Long id) {
+            index.computeIfPresent(gram, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        // 검색어를 포함할 수 있는 매장 아이디
+        // 3글자 미만은 같은 조각의 매장 목록을 그대로 사용하고,
+        // 그 외에는 trigram 별 매장 중 가장 적은 목록을 기준으로 나머지 trigram 을 모두 가진 매장만 남긴다.
+        private Set<Long> candidates(String query, Map<String, Set<Long>> index) {
+            if (query.isEmpty()) {
+                return names.keySet();
+            }
+            if (query.length() < GRAM) {
+                return index.getOrDefault(query, Set.of());
+            }
+
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String gram : grams(query, GRAM)) {
+                Set<Long> ids = index.get(gram);
+                if (ids == null) {
+                    return Set.of();
+                }
+                postings.add(ids);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+
+            Set<Long> result = new HashSet<>();
+            for (Long id : postings.get(0)) {
+                if (postings.stream().skip(1).allMatch(ids -> ids.contains(id))) {
+                    result.add(id);
+                }
+            }
+
+            return result;
+        }
+
+        // 1글자부터 GRAM 글자까지의 모든 조각
+        private static Set<String> allGrams(String folded) {
+            Set<String> grams = new HashSet<>();
+            for (int n = 1; n <= GRAM; n++) {
+                grams.addAll(grams(folded, n));
+            }
+
+            return grams;
+        }
+
+        private static Set<String> grams(String folded, int n) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + n <= folded.length(); i++) {
+                grams.add(folded.substring(i, i + n));
+            }
+
+            return grams;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.restaurant.service;
 
 import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.config.TotalCountCache;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.exception.MemberErrorCode;
 import com.jh.restaurantreservationpj.member.exception.MemberException;
@@ -13,16 +14,24 @@ import com.jh.restaurantreservationpj.restaurant.exception.RestaurantErrorCode;
 import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
 import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +40,15 @@ public class RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
     private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final RestaurantIndexPublisher restaurantIndexPublisher;
+    private final TotalCountCache totalCountCache;
 
     /**
      * 매장 등록 서비스
      */
+    @CacheEvict(key = "#request.name.trim()", value = CacheKey.RESTAURANT_MISS_KEY) // 없는 매장으로 저장된 조회 결과 제거
     public CreateRestaurantDto.Response createRestaurant(String userId, CreateRestaurantDto.Request request) {
         Member manager = memberRepository.findByUserId(userId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
@@ -50,14 +64,22 @@ public class RestaurantService {
                 .description(request.getDescription().trim())
                 .openTime(request.getOpenTime() != null ? request.getOpenTime().trim() : null)
                 .closeTime(request.getCloseTime() != null ? request.getCloseTime().trim() : null)
+                .capacity(request.getCapacity())
                 .build();
         Restaurant save = restaurantRepository.save(restaurant);
+        restaurantIndexPublisher.put(save.getId(), save.getName());
+        totalCountCache.adjust(CacheKey.RESTAURANT_COUNT_KEY, 1);
         return save.toCreateResponse();
     }
 
     // 매장 수정 서비스
-    @CacheEvict(key = "#restaurantName", value = CacheKey.RESTAURANT_KEY)
-    @CachePut(key = "#request.name", value = CacheKey.RESTAURANT_KEY)
+    @Caching(
+            evict = {
+                    @CacheEvict(key = "#restaurantName", value = CacheKey.RESTAURANT_KEY),
+                    @CacheEvict(key = "#request.name.trim()", value = CacheKey.RESTAURANT_MISS_KEY)
+            },
+            put = @CachePut(key = "#request.name", value = CacheKey.RESTAURANT_KEY)
+    )
     public CheckRestaurantDto.Response modifyRestaurant(String userId, String restaurantName, ModifiedRestaurantDto.Request request) {
         Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
 
@@ -79,8 +101,10 @@ public class RestaurantService {
                 .description(request.getDescription().trim())
                 .openTime(request.getOpenTime() != null ? request.getOpenTime().trim() : null)
                 .closeTime(request.getCloseTime() != null ? request.getCloseTime().trim() : null)
+                .capacity(request.getCapacity())
                 .build();
         Restaurant save = restaurantRepository.save(modified);
+        restaurantIndexPublisher.put(save.getId(), save.getName());
         return save.toCheckResponse();
     }
 
@@ -95,6 +119,8 @@ public class RestaurantService {
         }
 
         restaurantRepository.delete(restaurant);
+        restaurantIndexPublisher.remove(restaurant.getId());
+        totalCountCache.adjust(CacheKey.RESTAURANT_COUNT_KEY, -1);
 
         return restaurant.getName();
     }
@@ -102,22 +128,59 @@ public class RestaurantService {
     // 매장 검색 서비스
     // 검색한 문자로 시작하거나 문자를 포함한 매장을 오름차순으로 정렬하여 가져옴
     // 페이징 처리하여 가져온다.
+    // 검색 인덱스에서 현재 페이지의 매장 아이디를 찾고 해당 매장만 db 에서 조회 (인덱스 적재 전이나 현재 트랜잭션의 변경이 반영되기 전에는 db 에서 검색)
     @Transactional(readOnly = true)
     public Page<CheckRestaurantDto.Response> searchRestaurantName(String prefix, Pageable pageable) {
-        Page<Restaurant> restaurantList = restaurantRepository.findAllByNameStartingWithIgnoreCaseOrNameContainingIgnoreCaseOrderByNameAsc(prefix, prefix, pageable);
-        List<Restaurant> content = restaurantList.getContent();
-        List<CheckRestaurantDto.Response> responseList = content.stream()
+        if (!restaurantSearchIndex.isReady()) {
+            return restaurantRepository.findAllByNameStartingWithIgnoreCaseOrNameContainingIgnoreCaseOrderByNameAsc(prefix, prefix, pageable)
+                    .map(Restaurant::toCheckResponse);
+        }
+
+        RestaurantSearchIndex.SearchResult searched = restaurantSearchIndex.search(prefix, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Restaurant> restaurants = restaurantRepository.findAllById(searched.ids()).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+
+        // 인덱스의 정렬 순서대로
+        List<CheckRestaurantDto.Response> responseList = searched.ids().stream()
+                .map(restaurants::get)
+                .filter(Objects::nonNull)
                 .map(Restaurant::toCheckResponse)
                 .toList();
 
-        return new PageImpl<>(responseList, pageable, responseList.size());
+        return new PageImpl<>(responseList, pageable, searched.total());
+    }
+
+    // 매장 이름 자동 완성 서비스
+    // 검색한 문자로 시작하는 매장 이름을 오름차순으로 size 개 가져옴 (인덱스 적재 전에는 db 에서 검색)
+    @Transactional(readOnly = true)
+    public List<String> autocomplete(String prefix, int size) {
+        if (!restaurantSearchIndex.isReady()) {
+            return restaurantRepository.findAllByNameStartingWithIgnoreCaseOrderByNameAsc(prefix, PageRequest.of(0, size)).stream()
+                    .map(Restaurant::getName)
+                    .toList();
+        }
+
+        return restaurantSearchIndex.autocomplete(prefix, size);
     }
 
     // 매장 상세 조회 서비스
-    @Cacheable(key = "#name", value = CacheKey.RESTAURANT_KEY)
+    // 캐시가 없는 경우 같은 매장에 대한 동시 요청 중 하나만 db 를 조회한다. (sync)
+    // 없는 매장 조회 결과는 잠시 저장하여 같은 이름으로 반복 조회 시 db 를 조회하지 않는다.
+    @Cacheable(key = "#name", value = CacheKey.RESTAURANT_KEY, sync = true)
     @Transactional(readOnly = true)
     public CheckRestaurantDto.Response checkRestaurant(String name) {
-        Restaurant restaurant = restaurantRepository.findByName(name).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
+        Cache missCache = cacheManager.getCache(CacheKey.RESTAURANT_MISS_KEY);
+        if (missCache != null && missCache.get(name) != null) {
+            throw new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT);
+        }
+
+        Restaurant restaurant = restaurantRepository.findByName(name).orElse(null);
+        if (restaurant == null) {
+            if (missCache != null) {
+                missCache.put(name, Boolean.TRUE);
+            }
+            throw new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT);
+        }
 
         return restaurant.toCheckResponse();
     }
@@ -125,12 +188,11 @@ public class RestaurantService {
     // 매장 전체 리스트 조회 서비스
     @Transactional(readOnly = true)
     public Page<CheckRestaurantDto.Response> all(Pageable pageable) {
-        Page<Restaurant> all = restaurantRepository.findAll(pageable);
-        List<Restaurant> content = all.getContent();
+        List<Restaurant> content = restaurantRepository.findAllBy(pageable);
         List<CheckRestaurantDto.Response> resultList = content.stream()
                 .map(Restaurant::toCheckResponse)
                 .toList();
 
-        return new PageImpl<>(resultList, pageable, resultList.size());
+        return totalCountCache.page(resultList, pageable, CacheKey.RESTAURANT_COUNT_KEY, restaurantRepository::count);
     }
 }
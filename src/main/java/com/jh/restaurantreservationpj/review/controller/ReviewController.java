@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.review.controller;
 
 import com.jh.restaurantreservationpj.auth.TokenProvider;
+import com.jh.restaurantreservationpj.config.CursorPage;
 import com.jh.restaurantreservationpj.config.GlobalResponse;
 import com.jh.restaurantreservationpj.review.dto.CheckReviewDto;
 import com.jh.restaurantreservationpj.review.dto.CreateReviewDto;
@@ -8,6 +9,8 @@ import com.jh.restaurantreservationpj.review.dto.ModifyReviewDto;
 import com.jh.restaurantreservationpj.review.service.ReviewService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -78,4 +81,24 @@ public class ReviewController {
 
         return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
     }
+
+    // 매장의 리뷰 리스트 조회 컨트롤러
+    @GetMapping("/search/restaurant/{restaurantName}")
+    public ResponseEntity<GlobalResponse<Page<CheckReviewDto.Response>>> restaurantList(@PathVariable String restaurantName, @PageableDefault(sort = "regDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        Page<CheckReviewDto.Response> response = reviewService.checkRestaurantReviewList(restaurantName, pageable);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
+
+    // 리뷰 전체 리스트 커서 페이징 조회 컨트롤러
+    // 최신순 정렬, 응답의 nextCursor 로 다음 페이지 조회
+    @GetMapping("/cursor")
+    public ResponseEntity<GlobalResponse<CursorPage<CheckReviewDto.Response>>> listByCursor(@RequestParam(required = false) String cursor,
+                                                                                          @RequestParam(defaultValue = "20") @Min(value = 1, message = "1개 이상 조회하여야 합니다.") @Max(value = 100, message = "100개 이하로 조회하여야 합니다.") int size) {
+
+        CursorPage<CheckReviewDto.Response> response = reviewService.checkReviewList(cursor, size);
+
+        return ResponseEntity.ok(GlobalResponse.toGlobalResponse(response));
+    }
 }
@@ -1,6 +1,7 @@
 package com.jh.restaurantreservationpj.review.domain;
 
 import com.jh.restaurantreservationpj.config.BaseTimeEntity;
+import com.jh.restaurantreservationpj.config.TimeOrderedId;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
 import com.jh.restaurantreservationpj.review.dto.CheckReviewDto;
@@ -19,10 +20,11 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 @SQLDelete(sql = "UPDATE review SET del_date = now() WHERE id=?")
 @SQLRestriction(value = "del_date IS NULL")
+@Table(indexes = @Index(name = "idx_review_reg_date", columnList = "reg_date, id")) // 최신순 커서 페이징용
 public class Review extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,9 +1,44 @@
 package com.jh.restaurantreservationpj.review.repository;
 
+import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
 import com.jh.restaurantreservationpj.review.domain.Review;
+import com.jh.restaurantreservationpj.review.dto.CheckReviewDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+    List<Review> findAllBy(Pageable pageable); // count 쿼리 없이 현재 페이지의 리뷰만 조회
+
+    // 현재 페이지의 리뷰를 작성자 아이디, 매장 이름과 함께 조회 응답 dto 로 바로 조회 (count 쿼리 없음)
+    @Query("select new com.jh.restaurantreservationpj.review.dto.CheckReviewDto$Response(m.userId, rs.name, r.title, r.content) " +
+            "from Review r join r.member m join r.restaurant rs")
+    List<CheckReviewDto.Response> findResponses(Pageable pageable);
+
+    // 매장의 리뷰 중 현재 페이지를 응답 dto 로 바로 조회 (count 쿼리 없음)
+    @Query("select new com.jh.restaurantreservationpj.review.dto.CheckReviewDto$Response(m.userId, rs.name, r.title, r.content) " +
+            "from Review r join r.member m join r.restaurant rs " +
+            "where r.restaurant = :restaurant")
+    List<CheckReviewDto.Response> findResponsesByRestaurant(@Param("restaurant") Restaurant restaurant, Pageable pageable);
+
+    long countByRestaurant(Restaurant restaurant); // 매장의 리뷰 수
+
+    // 최신 리뷰부터 조회 (커서 페이징 첫 페이지)
+    @Query("select r from Review r order by r.regDate desc, r.id desc")
+    @EntityGraph(attributePaths = {"member", "restaurant"})
+    List<Review> findLatest(Pageable pageable);
+
+    // 커서(등록 날짜, 아이디) 이전에 등록된 리뷰 조회 (커서 페이징 다음 페이지)
+    @Query("select r from Review r " +
+            "where r.regDate < :regDate or (r.regDate = :regDate and r.id < :id) " +
+            "order by r.regDate desc, r.id desc")
+    @EntityGraph(attributePaths = {"member", "restaurant"})
+    List<Review> findOlderThan(@Param("regDate") LocalDateTime regDate, @Param("id") Long id, Pageable pageable);
 }
@@ -1,6 +1,9 @@
 package com.jh.restaurantreservationpj.review.service;
 
 import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.config.Cursor;
+import com.jh.restaurantreservationpj.config.CursorPage;
+import com.jh.restaurantreservationpj.config.TotalCountCache;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.domain.MemberRole;
 import com.jh.restaurantreservationpj.member.exception.MemberErrorCode;
@@ -22,7 +25,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +40,7 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
     private final ReviewRepository reviewRepository;
+    private final TotalCountCache totalCountCache;
 
     // 리뷰 생성 서비스
     public CreateReviewDto.Response createReview(String memberId, CreateReviewDto.Request request) {
@@ -54,6 +58,8 @@ public class ReviewService {
                 .content(request.getContent())
                 .build();
         Review savedReview = reviewRepository.save(review);
+        totalCountCache.adjust(CacheKey.REVIEW_COUNT_KEY, 1);
+        totalCountCache.adjust(CacheKey.RESTAURANT_REVIEW_COUNT_KEY + restaurant.getId(), 1);
 
         return savedReview.toCreateResponse();
     }
@@ -102,6 +108,8 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        totalCountCache.adjust(CacheKey.REVIEW_COUNT_KEY, -1);
+        totalCountCache.adjust(CacheKey.RESTAURANT_REVIEW_COUNT_KEY + review.getRestaurant().getId(), -1);
 
         return id;
     }
@@ -117,14 +125,36 @@ public class ReviewService {
     }
 
     // 리뷰 전체 리스트 조회 서비스
+    // 작성자 아이디와 매장 이름을 join 하여 응답 dto 로 바로 조회 (리뷰마다 회원, 매장을 조회하지 않음)
     @Transactional(readOnly = true)
     public Page<CheckReviewDto.Response> checkReviewList(Pageable pageable) {
-        Page<Review> reviewList = reviewRepository.findAll(pageable);
-        List<Review> content = reviewList.getContent();
-        List<CheckReviewDto.Response> checkResponseList = content.stream()
-                .map(Review::toCheckResponse)
-                .toList();
+        List<CheckReviewDto.Response> checkResponseList = reviewRepository.findResponses(pageable);
 
-        return new PageImpl<>(checkResponseList, pageable, checkResponseList.size());
+        return totalCountCache.page(checkResponseList, pageable, CacheKey.REVIEW_COUNT_KEY, reviewRepository::count);
+    }
+
+    // 매장의 리뷰 리스트 조회 서비스
+    @Transactional(readOnly = true)
+    public Page<CheckReviewDto.Response> checkRestaurantReviewList(String restaurantName, Pageable pageable) {
+        Restaurant restaurant = restaurantRepository.findByName(restaurantName).orElseThrow(() -> new RestaurantException(RestaurantErrorCode.NOT_FOUND_RESTAURANT));
+
+        List<CheckReviewDto.Response> checkResponseList = reviewRepository.findResponsesByRestaurant(restaurant, pageable);
+
+        return totalCountCache.page(checkResponseList, pageable, CacheKey.RESTAURANT_REVIEW_COUNT_KEY + restaurant.getId(),
+                () -> reviewRepository.countByRestaurant(restaurant));
+    }
+
+    // 리뷰 전체 리스트 커서 페이징 조회 서비스
+    // 최신순 정렬, 커서 이전의 리뷰를 size 개 가져온다. (페이지가 깊어져도 앞의 리뷰를 건너뛰며 읽지 않음)
+    @Transactional(readOnly = true)
+    public CursorPage<CheckReviewDto.Response> checkReviewList(String cursor, int size) {
+        Cursor after = Cursor.decode(cursor, () -> new ReviewException(ReviewErrorCode.NOT_VALID_CURSOR));
+        PageRequest limit = PageRequest.of(0, size + 1); // 다음 페이지 확인용 1개 추가
+
+        List<Review> reviews = after == null
+                ? reviewRepository.findLatest(limit)
+                : reviewRepository.findOlderThan(after.regDate(), after.id(), limit);
+
+        return CursorPage.of(reviews, size, r -> new Cursor(r.getRegDate(), r.getId()), Review::toCheckResponse);
     }
 }
@@ -0,0 +1,97 @@
+package com.jh.restaurantreservationpj.auth;
+
+import com.jh.restaurantreservationpj.member.service.MemberService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/*
+토큰 인증 Filter 를 거칠 때 요청 하나에 걸리는 시간 측정
+검증한 토큰 정보를 기억하지 않는 경우(요청마다 서명 검증과 파싱)와 기억하는 경우(claimsCache)를 비교한다.
+회원 1000명이 각자의 토큰으로 반복해서 요청한다.
+ */
+@Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilterBenchmarkTest.class);
+
+    private static final String SECRET = "c3ByaW5nLWJvb3QtcmVzdGF1cmFudC1yZXNlcnZhdGlvbi1wcm9qZWN0LXNlY3JldC1rZXkK";
+    private static final int REQUESTS = 200_000;
+    private static final int MEMBERS = 1000;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @AfterEach
+    void after() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private TokenProvider tokenProvider(long claimsCacheSize) {
+        TokenProvider tokenProvider = new TokenProvider(mock(MemberService.class), mock(MemberRevocationChecker.class));
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "claimsCacheSize", claimsCacheSize);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+
+    private List<MockHttpServletRequest> requests(TokenProvider tokenProvider) {
+        List<MockHttpServletRequest> requests = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservations/search");
+            request.addHeader("Authorization", "Bearer " + tokenProvider.generateToken("member" + i, List.of("ROLE_READ")));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    // 요청 하나당 평균 시간(ns)
+    private long run(JwtAuthenticationFilter filter, List<MockHttpServletRequest> requests) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            filter.doFilter(requests.get(i % requests.size()), response, chain);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        return elapsed / REQUESTS;
+    }
+
+    @Test
+    @DisplayName("토큰 인증 Filter 의 요청당 시간 - 토큰 정보 기억 여부 비교")
+    void claimsCache() throws Exception {
+        TokenProvider uncachedProvider = tokenProvider(0);
+        TokenProvider cachedProvider = tokenProvider(10_000);
+        JwtAuthenticationFilter uncached = new JwtAuthenticationFilter(uncachedProvider);
+        JwtAuthenticationFilter cached = new JwtAuthenticationFilter(cachedProvider);
+        List<MockHttpServletRequest> requests = requests(cachedProvider); // 같은 비밀키로 서명하므로 두 Filter 모두 사용 가능
+
+        run(uncached, requests); // 준비 실행
+        run(cached, requests);
+
+        long uncachedNanos = run(uncached, requests);
+        long cachedNanos = run(cached, requests);
+
+        log.info("토큰 인증 Filter 요청당 시간 (회원 {}명) : 서명 검증 {}ns, 토큰 정보 기억 {}ns",
+                MEMBERS, uncachedNanos, cachedNanos);
+
+        assertThat(cachedProvider.getCachedClaimsCount()).isEqualTo(MEMBERS);
+        assertThat(cachedNanos).isLessThan(uncachedNanos);
+    }
+}
@@ -0,0 +1,147 @@
+package com.jh.restaurantreservationpj.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.member.dto.MemberSignInDto;
+import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import com.jh.restaurantreservationpj.reservation.dto.CreateReservationDto;
+import com.jh.restaurantreservationpj.reservation.dto.UseReservationDto;
+import com.jh.restaurantreservationpj.reservation.service.ReservationService;
+import com.jh.restaurantreservationpj.restaurant.dto.CreateRestaurantDto;
+import com.jh.restaurantreservationpj.restaurant.service.RestaurantService;
+import com.jh.restaurantreservationpj.review.dto.CreateReviewDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 토큰 정보로 인증하는 경우 (spring.jwt.stateless) 회원 탈퇴, 권한 변경 적용 확인
+// 확인 결과는 테스트 사이에도 남아 있으므로 테스트마다 다른 아이디 사용
+@SpringBootTest(properties = "spring.jwt.revocation-check-ttl=1")
+@Transactional
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String signUpAndSignIn(String userId, String role) throws Exception {
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"" + userId + "\",\"password\":\"1234\",\"roles\":[\"" + role + "\"]}"))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MemberSignInDto.Request.builder()
+                                .userId(userId)
+                                .password("1234")
+                                .build())))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").asText();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰의 회원, 권한으로 인증")
+    void authenticateWithClaims() throws Exception {
+        String token = signUpAndSignIn("claims", "read");
+
+        mockMvc.perform(get("/reservations/search")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/reservations/reservation/10000000")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden()); // 토큰에 없는 권한
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 토큰은 확인 결과 유지 시간 안에 거절")
+    void rejectDeletedMember() throws Exception {
+        String token = signUpAndSignIn("deleted", "read");
+
+        mockMvc.perform(get("/reservations/search")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        memberRepository.delete(memberRepository.findByUserId("deleted").orElseThrow());
+        entityManager.flush();
+        Thread.sleep(1100); // 확인 결과 유지 시간(1초) 이후
+
+        mockMvc.perform(get("/reservations/search")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("방문 인증으로 받은 리뷰 작성 권한은 다시 로그인하지 않아도 적용")
+    void writeAfterVisit() throws Exception {
+        signUpAndSignIn("visit-manager", "admin");
+        String token = signUpAndSignIn("visitor", "read");
+
+        restaurantService.createRestaurant("visit-manager", CreateRestaurantDto.Request.builder()
+                .name("방문매장")
+                .description("설명")
+                .totalAddress("주소")
+                .openTime("09")
+                .closeTime("23")
+                .build());
+        String reservationNumber = reservationService.createReservation("visitor", CreateReservationDto.Request.builder()
+                .time("22")
+                .restaurantName("방문매장")
+                .build()).getReservationNumber();
+        reservationService.acceptReservation("visit-manager", reservationNumber);
+
+        CreateReviewDto.Request review = CreateReviewDto.Request.builder()
+                .restaurantName("방문매장")
+                .title("제목")
+                .content("내용")
+                .build();
+
+        mockMvc.perform(post("/reviews/review")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(review))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden()); // 방문 전에는 리뷰 작성 권한 없음
+
+        mockMvc.perform(put("/reservations/reservation/visit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UseReservationDto.Request.builder()
+                                .userId("visitor")
+                                .reservationNumber(reservationNumber)
+                                .restaurantName("방문매장")
+                                .build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/reviews/review")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(review))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,134 @@
+package com.jh.restaurantreservationpj.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jh.restaurantreservationpj.member.service.MemberService;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenProviderTest {
+
+    private static final String SECRET = "c3ByaW5nLWJvb3QtcmVzdGF1cmFudC1yZXNlcnZhdGlvbi1wcm9qZWN0LXNlY3JldC1rZXkK";
+
+    private TokenProvider tokenProvider;
+    private JwtParser parser; // 서명 검증 횟수 확인용
+
+    @BeforeEach
+    void before() {
+        tokenProvider = new TokenProvider(mock(MemberService.class), mock(MemberRevocationChecker.class));
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "claimsCacheSize", 10L);
+        tokenProvider.init();
+
+        parser = spy((JwtParser) ReflectionTestUtils.getField(tokenProvider, "jwtParser"));
+        ReflectionTestUtils.setField(tokenProvider, "jwtParser", parser);
+    }
+
+    @AfterEach
+    void after() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private String token(String userId, long expireMillis) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .setExpiration(new Date(System.currentTimeMillis() + expireMillis))
+                .signWith(SignatureAlgorithm.HS512, TextCodec.BASE64.decode(SECRET))
+                .compact();
+    }
+
+    @Test
+    @DisplayName("기억한 토큰은 서명을 다시 검증하지 않음")
+    void cacheHit() {
+        String token = tokenProvider.generateToken("test", List.of("ROLE_READ"));
+
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(tokenProvider.getUserName(token)).isEqualTo("test");
+
+        verify(parser, times(1)).parseClaimsJws(anyString());
+    }
+
+    @Test
+    @DisplayName("기억한 토큰도 만료되면 거절")
+    void expiredAfterCached() throws InterruptedException {
+        String token = token("test", 1000);
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        Thread.sleep(1100);
+
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 잘못된 토큰은 기억하지 않음")
+    void tamperedNotCached() {
+        String token = tokenProvider.generateToken("test", List.of("ROLE_READ"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                tokenProvider.validateToken(tampered);
+            } catch (JwtException e) {
+                assertThat(e.getMessage()).isNotBlank();
+            }
+        }
+
+        verify(parser, times(2)).parseClaimsJws(tampered); // 매번 검증
+        assertThat(tokenProvider.getCachedClaimsCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 원문이 아닌 해시로 기억")
+    void cacheByHash() {
+        String token = tokenProvider.generateToken("test", List.of("ROLE_READ"));
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        Cache<?, ?> claimsCache = (Cache<?, ?>) ReflectionTestUtils.getField(tokenProvider, "claimsCache");
+        assertThat(claimsCache.asMap()).hasSize(1).doesNotContainKey(token);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 일부만 지우고 나머지 토큰은 계속 기억")
+    void overflow() {
+        for (int i = 0; i < 50; i++) {
+            String token = tokenProvider.generateToken("test" + i, List.of("ROLE_READ"));
+            assertThat(tokenProvider.validateToken(token)).isTrue();
+        }
+
+        long cached = tokenProvider.getCachedClaimsCount();
+        assertThat(cached).isPositive().isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 기억하지 않는 토큰도 한 번만 파싱")
+    void requestScope() {
+        String expired = token("test", -1000); // 만료된 토큰은 요청 사이에 기억하지 않음
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(tokenProvider.validateToken(expired)).isFalse();
+        assertThat(tokenProvider.getUserName(expired)).isEqualTo("test");
+        verify(parser, times(1)).parseClaimsJws(expired);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest())); // 다음 요청
+        tokenProvider.getUserName(expired);
+        verify(parser, times(2)).parseClaimsJws(expired);
+    }
+}
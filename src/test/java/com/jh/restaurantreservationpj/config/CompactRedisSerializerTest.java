@@ -0,0 +1,162 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.jh.restaurantreservationpj.reservation.dto.CheckForMemberReservationDto;
+import com.jh.restaurantreservationpj.restaurant.dto.CheckRestaurantDto;
+import com.jh.restaurantreservationpj.review.dto.CheckReviewDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+
+    private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    private CheckRestaurantDto.Response restaurant(int descriptionLength) {
+        return CheckRestaurantDto.Response.builder()
+                .name("테스트 매장")
+                .totalAddress("서울시 강남구 테헤란로 123")
+                .description("맛있는 식당입니다. ".repeat(descriptionLength / 10))
+                .openTime("09")
+                .closeTime("22")
+                .capacity(10)
+                .build();
+    }
+
+    private CheckForMemberReservationDto.Response reservation(int i) {
+        return CheckForMemberReservationDto.Response.builder()
+                .reservationNumber(String.valueOf(10000000 + i))
+                .restaurantName("테스트 매장 " + i)
+                .reservationTime("13")
+                .detailMessage(CheckForMemberReservationDto.DetailMessage.ACCEPT.getMessage())
+                .deniedMessage(null)
+                .build();
+    }
+
+    private CheckReviewDto.Response review(int i, int contentLength) {
+        return CheckReviewDto.Response.builder()
+                .memberId("member" + i)
+                .restaurantName("테스트 매장 " + i)
+                .title("리뷰 제목 " + i)
+                .content("음식이 맛있고 친절했습니다. ".repeat(contentLength / 15))
+                .build();
+    }
+
+    @Test
+    @DisplayName("smile 형식으로 저장한 값 복원")
+    void smileRoundTrip() {
+        RedisSerializer<Object> serializer = RedisConfig.valueSerializer("smile", 1024);
+
+        CheckRestaurantDto.Response result = (CheckRestaurantDto.Response) serializer.deserialize(serializer.serialize(restaurant(100)));
+
+        assertThat(result.getName()).isEqualTo("테스트 매장");
+        assertThat(result.getCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("압축한 값 복원")
+    void compressedRoundTrip() {
+        RedisSerializer<Object> serializer = RedisConfig.valueSerializer("smile", 64);
+        CheckRestaurantDto.Response value = restaurant(5000);
+
+        CheckRestaurantDto.Response result = (CheckRestaurantDto.Response) serializer.deserialize(serializer.serialize(value));
+
+        assertThat(result.getDescription()).isEqualTo(value.getDescription());
+    }
+
+    @Test
+    @DisplayName("기존 json 형식으로 저장된 값도 읽을 수 있음")
+    void readLegacyJson() {
+        RedisSerializer<Object> serializer = RedisConfig.valueSerializer("smile", 1024);
+        byte[] legacy = jsonSerializer.serialize(restaurant(100));
+
+        CheckRestaurantDto.Response result = (CheckRestaurantDto.Response) serializer.deserialize(legacy);
+
+        assertThat(result.getName()).isEqualTo("테스트 매장");
+    }
+
+    @Test
+    @DisplayName("json 과 비교해 저장 크기가 줄어듦")
+    void smallerThanJson() {
+        RedisSerializer<Object> serializer = RedisConfig.valueSerializer("smile", 1024);
+        List<CheckRestaurantDto.Response> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(restaurant(i % 2 == 0 ? 100 : 3000));
+        }
+
+        long jsonBytes = 0;
+        long compactBytes = 0;
+        for (CheckRestaurantDto.Response value : values) {
+            jsonBytes += jsonSerializer.serialize(value).length;
+            compactBytes += serializer.serialize(value).length;
+        }
+
+        assertThat(compactBytes).isLessThan(jsonBytes);
+    }
+
+    // 저장 크기(byte)와 변환 시간(ns)의 값 하나당 평균 {크기, 저장, 복원}
+    private long[] measure(RedisSerializer<Object> serializer, List<?> values) {
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        long bytes = 0;
+        long encodeStart = System.nanoTime();
+        for (Object value : values) {
+            byte[] data = serializer.serialize(value);
+            bytes += data.length;
+            encoded.add(data);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (byte[] data : encoded) {
+            assertThat(serializer.deserialize(data)).isNotNull();
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        return new long[]{bytes / values.size(), encodeNanos / values.size(), decodeNanos / values.size()};
+    }
+
+    @Test
+    @Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+    @DisplayName("매장, 예약, 리뷰 캐시 값의 저장 크기와 변환 시간을 json 과 비교")
+    void compareWithJsonByCache() {
+        RedisSerializer<Object> serializer = RedisConfig.valueSerializer("smile", 1024);
+        int count = 20_000;
+        Map<String, List<Object>> valuesByCache = new LinkedHashMap<>();
+        valuesByCache.put(CacheKey.RESTAURANT_KEY, new ArrayList<>(count));
+        valuesByCache.put(CacheKey.RESERVATION_KEY, new ArrayList<>(count));
+        valuesByCache.put(CacheKey.REVIEW_KEY, new ArrayList<>(count));
+        for (int i = 0; i < count; i++) {
+            valuesByCache.get(CacheKey.RESTAURANT_KEY).add(restaurant(i % 2 == 0 ? 100 : 3000));
+            valuesByCache.get(CacheKey.RESERVATION_KEY).add(reservation(i));
+            valuesByCache.get(CacheKey.REVIEW_KEY).add(review(i, i % 2 == 0 ? 60 : 1500));
+        }
+
+        for (List<Object> values : valuesByCache.values()) { // jit 예열
+            measure(jsonSerializer, values);
+            measure(serializer, values);
+        }
+
+        for (Map.Entry<String, List<Object>> entry : valuesByCache.entrySet()) {
+            String cache = entry.getKey();
+            List<Object> values = entry.getValue();
+            long[] json = measure(jsonSerializer, values);
+            long[] compact = measure(serializer, values);
+
+            log.info("{} 캐시 값 {}개 평균 : json {}byte 저장 {}ns 복원 {}ns, smile(+deflate) {}byte 저장 {}ns 복원 {}ns",
+                    cache, count, json[0], json[1], json[2], compact[0], compact[1], compact[2]);
+            assertThat(compact[0]).isLessThan(json[0]);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    @Test
+    @DisplayName("허가 수만큼만 커넥션을 가져가고 닫으면 반납")
+    void limit() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 2, 0, 100);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        assertThat(dataSource.getInUse()).isEqualTo(2);
+
+        try {
+            dataSource.getConnection(); // 대기 허용 수 0
+        } catch (SQLTransientConnectionException e) {
+            assertThat(dataSource.getRejected()).isEqualTo(1);
+        }
+
+        first.close();
+        first.close(); // 여러 번 닫아도 한 번만 반납
+        assertThat(dataSource.getInUse()).isEqualTo(1);
+
+        dataSource.getConnection();
+        assertThat(dataSource.getInUse()).isEqualTo(2);
+        assertThat(dataSource.getMaxInUse()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정해진 시간 동안 허가를 받지 못하면 실패")
+    void timeout() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 1, 10, 50);
+        dataSource.getConnection();
+
+        long start = System.currentTimeMillis();
+        try {
+            dataSource.getConnection();
+        } catch (SQLTransientConnectionException e) {
+            assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(50);
+        }
+
+        assertThat(dataSource.getRejected()).isEqualTo(1);
+        assertThat(dataSource.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에서 가져오지 못한 경우 허가 반납")
+    void releaseOnFailure() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("풀 오류"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 1, 0, 50);
+
+        try {
+            dataSource.getConnection();
+        } catch (SQLException e) {
+            assertThat(e.getMessage()).isEqualTo("풀 오류");
+        }
+
+        assertThat(dataSource.getInUse()).isZero();
+    }
+}
@@ -0,0 +1,25 @@
+package com.jh.restaurantreservationpj.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// 테스트용 sql 실행 횟수 측정 (hibernate statistics 사용)
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 action 실행 중 준비된 sql 문 개수를 반환
+    // 이미 조회된 엔티티로 인해 지연 로딩 쿼리가 가려지지 않도록 flush, clear 후 측정한다.
+    public static long count(EntityManager entityManager, Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
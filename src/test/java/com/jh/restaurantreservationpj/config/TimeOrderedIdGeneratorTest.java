@@ -0,0 +1,50 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 스레드에서 만든 아이디는 계속 증가")
+    void increasing() {
+        long previous = TimeOrderedIdGenerator.nextId();
+        for (int i = 0; i < 100_000; i++) { // ms 당 순번(4096개)을 넘겨도 증가
+            long id = TimeOrderedIdGenerator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        long node = previous >>> TimeOrderedIdGenerator.SEQUENCE_BITS & TimeOrderedIdGenerator.MAX_NODE;
+        assertThat(node).isEqualTo(TimeOrderedIdGenerator.getNode());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 만들어도 아이디가 겹치지 않음")
+    void unique() throws InterruptedException {
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(TimeOrderedIdGenerator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,88 @@
+package com.jh.restaurantreservationpj.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TotalCountCacheTest {
+
+    private TotalCountCache totalCountCache;
+    private AtomicInteger countQueries;
+
+    @BeforeEach
+    void before() {
+        totalCountCache = new TotalCountCache();
+        ReflectionTestUtils.setField(totalCountCache, "countMode", "approximate");
+        ReflectionTestUtils.setField(totalCountCache, "countTtl", 300L);
+        countQueries = new AtomicInteger();
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 100;
+    }
+
+    @Test
+    @DisplayName("저장한 개수를 사용하여 페이지마다 count 쿼리를 실행하지 않음")
+    void cachedCount() {
+        for (int page = 0; page < 5; page++) {
+            Page<String> result = totalCountCache.page(List.of("a", "b"), PageRequest.of(page, 2), "key", this::count);
+            assertThat(result.getTotalElements()).isEqualTo(100);
+        }
+
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("등록, 삭제 시 저장한 개수 증감")
+    void adjust() {
+        totalCountCache.count("key", this::count);
+
+        totalCountCache.adjust("key", 2);
+        totalCountCache.adjust("key", -1);
+
+        assertThat(totalCountCache.count("key", this::count)).isEqualTo(101);
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 count 쿼리 없이 전체 개수 계산")
+    void lastPage() {
+        Page<String> result = totalCountCache.page(List.of("a"), PageRequest.of(3, 2), "key", this::count);
+
+        assertThat(result.getTotalElements()).isEqualTo(7);
+        assertThat(countQueries.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("exact 방식은 매번 count 쿼리 실행")
+    void exact() {
+        ReflectionTestUtils.setField(totalCountCache, "countMode", "exact");
+
+        totalCountCache.count("key", this::count);
+        totalCountCache.count("key", this::count);
+
+        assertThat(countQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 건이 변경된 경우 다시 조회")
+    void evictByPrefix() {
+        totalCountCache.count("count:a:1", this::count);
+        totalCountCache.count("count:b:1", this::count);
+
+        totalCountCache.evictByPrefix("count:a:");
+        totalCountCache.count("count:a:1", this::count);
+        totalCountCache.count("count:b:1", this::count);
+
+        assertThat(countQueries.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,229 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache redisCache; // L2 역할
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void before() {
+        redisCache = new ConcurrentMapCache("test");
+        cacheManager = mock(TwoLevelCacheManager.class);
+        cache = new TwoLevelCache("test", Caffeine.newBuilder().maximumSize(100).build(), redisCache, cacheManager);
+    }
+
+    @Test
+    @DisplayName("L2에 있는 값은 L1에 저장된 뒤 L1에서 조회")
+    void l2ToL1() {
+        redisCache.put("key", "value");
+
+        assertThat(cache.get("key").get()).isEqualTo("value");
+        assertThat(cache.get("key").get()).isEqualTo("value");
+
+        assertThat(cache.getL1MissCount()).isEqualTo(1);
+        assertThat(cache.getL2HitCount()).isEqualTo(1);
+        assertThat(cache.getL1HitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 변경 시 L1, L2 모두 변경되고 다른 노드에 알림")
+    void putAndEvict() {
+        cache.put(1L, "value");
+
+        assertThat(redisCache.get(1L).get()).isEqualTo("value");
+        verify(cacheManager).publishEvict("test", "1");
+
+        cache.evict(1L);
+
+        assertThat(redisCache.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 값을 한 번에 저장 시 L2 저장과 알림은 한 번에 요청하고 L1에 저장")
+    void putAll() {
+        Map<Long, String> entries = new LinkedHashMap<>();
+        entries.put(1L, "a");
+        entries.put(2L, "b");
+
+        cache.putAll(entries);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("1", "a");
+        expected.put("2", "b");
+        verify(cacheManager).putAllRemote("test", expected);
+        assertThat(cache.get(1L).get()).isEqualTo("a");
+        assertThat(cache.get(2L).get()).isEqualTo("b");
+        assertThat(cache.getL1HitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경된 경우 L1만 비워 L2의 최신 값을 조회")
+    void evictLocal() {
+        cache.put("key", "old");
+        redisCache.put("key", "new"); // 다른 노드에서 변경
+
+        cache.evictLocal("key");
+
+        assertThat(cache.get("key").get()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("값이 없는 경우 한 번만 원본에서 가져와 L1, L2에 저장")
+    void loadOnce() {
+        assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get("key", () -> "other")).isEqualTo("loaded");
+        assertThat(redisCache.get("key").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 한 번만 원본을 조회하고 다른 키의 조회는 기다리지 않음")
+    void singleFlight() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> slowLoader = () -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS); // 느린 원본 조회
+            return "loaded";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("key", slowLoader)));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("key", slowLoader)));
+            }
+
+            assertThat(cache.get("other", () -> "other")).isEqualTo("other"); // 조회 중인 키와 관계없이 바로 조회
+
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 중 삭제된 키는 조회 결과를 L1에 저장하지 않음")
+    void evictWhileLoading() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> cache.get("key", () -> {
+                loadStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "old";
+            }));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.evictLocal("key"); // 다른 노드에서 변경
+            release.countDown();
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+            redisCache.put("key", "new");
+            assertThat(cache.get("key", () -> "loaded")).isEqualTo("new");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 조회 중이면 원본을 조회하지 않고 L2에 저장되기를 기다림")
+    void waitForOtherNode() {
+        when(cacheManager.lockedByOtherNode("test", "key")).thenReturn(true);
+        when(cacheManager.getLoadLockTtl()).thenReturn(Duration.ofSeconds(3));
+        Executors.newSingleThreadScheduledExecutor()
+                .schedule(() -> redisCache.put("key", "other node"), 100, TimeUnit.MILLISECONDS);
+
+        AtomicInteger loadCount = new AtomicInteger();
+        String value = cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            return "loaded";
+        });
+
+        assertThat(value).isEqualTo("other node");
+        assertThat(loadCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("L2 만료가 임박한 경우 한 번 미리 갱신")
+    void refreshEarly() {
+        when(cacheManager.getEarlyRefreshBeta()).thenReturn(1.0);
+        when(cacheManager.getRemainingTtl(anyString(), anyString())).thenReturn(Duration.ZERO); // 만료 시각에 도달
+
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get("key", loadCount::incrementAndGet);
+        Integer refreshed = cache.get("key", loadCount::incrementAndGet);
+
+        assertThat(refreshed).isEqualTo(2);
+        assertThat(cache.getEarlyRefreshCount()).isEqualTo(1);
+        assertThat(redisCache.get("key").get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시, 단계, 결과별 조회 수를 측정 값으로 등록")
+    void metrics() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache("metrics")).thenReturn(new ConcurrentMapCache("metrics"));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisCacheManager, mock(StringRedisTemplate.class), Map.of(),
+                new TwoLevelCacheManager.LocalCacheSpec(100, Duration.ofMinutes(1)), Duration.ZERO, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        manager.bindTo(registry);
+
+        Cache metricsCache = manager.getCache("metrics"); // 등록 후 만들어진 캐시
+        metricsCache.get("key"); // L1 miss, L2 miss
+        metricsCache.put("key", "value");
+        metricsCache.get("key"); // L1 hit
+
+        assertThat(gets(registry, "l1", "miss")).isEqualTo(1);
+        assertThat(gets(registry, "l2", "miss")).isEqualTo(1);
+        assertThat(gets(registry, "l1", "hit")).isEqualTo(1);
+        assertThat(gets(registry, "l2", "hit")).isEqualTo(0);
+    }
+
+    private static double gets(SimpleMeterRegistry registry, String level, String result) {
+        return registry.get("cache.two_level.gets")
+                .tags("cache", "metrics", "level", level, "result", result)
+                .functionCounter()
+                .count();
+    }
+}
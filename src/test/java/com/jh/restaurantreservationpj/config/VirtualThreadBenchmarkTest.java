@@ -0,0 +1,99 @@
+package com.jh.restaurantreservationpj.config;
+
+import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+동시 요청 5000개를 플랫폼 스레드 풀(tomcat 기본 200개)과 가상 스레드로 처리하는 시간 비교
+요청 하나는 db 조회 1회와 redis 등 외부 호출을 흉내 낸 대기(20ms)로 구성한다.
+가상 스레드는 요청 수만큼 동시에 실행되지만 db 는 gate 의 허가 수만큼만 사용한다.
+ */
+@SpringBootTest(properties = {
+        "datasource.gate.permits=10",
+        "datasource.gate.max-waiting=10000"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+class VirtualThreadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final int CLIENTS = 5000;
+    private static final long IO_WAIT_MILLIS = 20;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long run(AsyncTaskExecutor executor) throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(CLIENTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(executor.submit(() -> {
+                memberRepository.findByUserId("benchmark");
+                try {
+                    Thread.sleep(IO_WAIT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                completed.incrementAndGet();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(completed.get()).isEqualTo(CLIENTS);
+        return elapsed;
+    }
+
+    @Test
+    @DisplayName("동시 요청 5000개 처리 시 플랫폼 스레드와 가상 스레드 비교")
+    void platformVsVirtual() throws Exception {
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(200);
+        platform.setMaxPoolSize(200);
+        platform.setQueueCapacity(CLIENTS);
+        platform.initialize();
+
+        run(platform); // 준비 실행
+        long platformMillis = run(platform);
+        platform.shutdown();
+
+        VirtualThreadTaskExecutor virtual = new VirtualThreadTaskExecutor("benchmark-");
+        run(virtual);
+        long virtualMillis = run(virtual);
+
+        ConcurrencyLimitedDataSource gate = (ConcurrencyLimitedDataSource) dataSource;
+        log.info("동시 요청 {}개 : 플랫폼 스레드 200개 {}ms ({}건/s), 가상 스레드 {}ms ({}건/s), 최대 동시 db 사용 {}, 거절 {}",
+                CLIENTS, platformMillis, CLIENTS * 1000L / Math.max(platformMillis, 1), virtualMillis, CLIENTS * 1000L / Math.max(virtualMillis, 1),
+                gate.getMaxInUse(), gate.getRejected());
+
+        assertThat(gate.getMaxInUse()).isLessThanOrEqualTo(10); // 가상 스레드가 몰려도 db 는 허가 수만큼만 사용
+        assertThat(gate.getRejected()).isZero();
+    }
+}
@@ -0,0 +1,173 @@
+package com.jh.restaurantreservationpj.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.auth.TokenProvider;
+import com.jh.restaurantreservationpj.config.GlobalResponse;
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyErrorCode;
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyAspectTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore();
+    private final TestController target = new TestController();
+    private TestController controller;
+
+    // 호출 횟수를 세는 컨트롤러 (느린 처리, 실패를 흉내 냄)
+    static class TestController {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile long delay;
+        volatile boolean fail;
+
+        @Idempotent
+        public ResponseEntity<GlobalResponse<String>> create(String body) throws InterruptedException {
+            int call = calls.incrementAndGet();
+            Thread.sleep(delay);
+            if (fail) {
+                throw new IllegalStateException("처리 실패");
+            }
+            return ResponseEntity.ok(GlobalResponse.toGlobalResponse(body + "-" + call));
+        }
+    }
+
+    @BeforeEach
+    void before() {
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.getUserId(any())).thenReturn("test");
+
+        IdempotencyAspect aspect = new IdempotencyAspect(store, tokenProvider, new ObjectMapper());
+        ReflectionTestUtils.setField(aspect, "ttl", 60L);
+        ReflectionTestUtils.setField(aspect, "lockTtl", 30L);
+        ReflectionTestUtils.setField(aspect, "waitTimeout", 5000L);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        controller = factory.getProxy();
+    }
+
+    @AfterEach
+    void after() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private MockHttpServletResponse request(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyAspect.HEADER, idempotencyKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도한 요청은 실행하지 않고 처음 응답을 돌려줌")
+    void replay() throws InterruptedException {
+        request("key-1");
+        ResponseEntity<GlobalResponse<String>> first = controller.create("예약");
+
+        MockHttpServletResponse response = request("key-1");
+        ResponseEntity<GlobalResponse<String>> second = controller.create("예약");
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(second.getStatusCode()).isEqualTo(first.getStatusCode());
+        assertThat(second.getBody().getData()).isEqualTo("예약-1");
+        assertThat(response.getHeader(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+
+        request(null); // 키가 없는 요청은 매번 실행
+        controller.create("예약");
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 동시에 오면 한 번만 실행")
+    void concurrent() throws Exception {
+        target.delay = 200;
+        int clients = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                request("key-2");
+                start.await();
+                return controller.create("예약").getBody().getData();
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> future : futures) {
+            assertThat(future.get()).isEqualTo("예약-1");
+        }
+        executor.shutdown();
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처음 요청이 실패한 경우 같은 키로 다시 실행")
+    void retryAfterFailure() throws InterruptedException {
+        target.fail = true;
+        request("key-3");
+        try {
+            controller.create("예약");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage()).isEqualTo("처리 실패");
+        }
+
+        target.fail = false;
+        request("key-3");
+        assertThat(controller.create("예약").getBody().getData()).isEqualTo("예약-2");
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 사용한 경우 실패")
+    void failKeyReused() throws InterruptedException {
+        request("key-4");
+        controller.create("예약");
+
+        request("key-4");
+        try {
+            controller.create("다른 예약");
+        } catch (IdempotencyException e) {
+            assertThat(e.getIdempotencyErrorCode()).isEqualTo(IdempotencyErrorCode.KEY_REUSED);
+        }
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 키인 경우 실패")
+    void failNotValidKey() throws InterruptedException {
+        request("잘못된 키");
+        try {
+            controller.create("예약");
+        } catch (IdempotencyException e) {
+            assertThat(e.getIdempotencyErrorCode()).isEqualTo(IdempotencyErrorCode.NOT_VALID_KEY);
+        }
+        assertThat(target.calls.get()).isZero();
+    }
+}
@@ -54,4 +54,13 @@ class MemberRepositoryTest {
     void sameId() {
         assertThat(memberRepository.existsByUserId("test")).isEqualTo(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원 아이디로 권한까지 함께 조회")
+    void findUserWithRoles() {
+        Member member = memberRepository.findWithMemberRolesByUserId("test").orElse(null);
+
+        assertThat(member.getUserId()).isEqualTo("test");
+        assertThat(member.getMemberRoles()).hasSize(1);
+    }
+}
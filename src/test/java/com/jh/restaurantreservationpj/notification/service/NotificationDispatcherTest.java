@@ -0,0 +1,170 @@
+package com.jh.restaurantreservationpj.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.notification.domain.NotificationDeadLetter;
+import com.jh.restaurantreservationpj.notification.domain.NotificationMessage;
+import com.jh.restaurantreservationpj.notification.repository.NotificationDeadLetterRepository;
+import com.jh.restaurantreservationpj.notification.repository.NotificationDeliveryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 전송 스레드가 커밋된 알림을 가져가므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+class NotificationDispatcherTest {
+
+    @Autowired
+    private NotificationDeliveryRepository deliveryRepository;
+
+    @Autowired
+    private NotificationDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDispatcher dispatcher;
+
+    // 전송 동작을 바꿀 수 있는 채널 (받은 알림 기록)
+    static class TestChannel implements NotificationChannel {
+        final List<NotificationMessage> received = new CopyOnWriteArrayList<>();
+        final Consumer<List<NotificationMessage>> behavior;
+
+        TestChannel(Consumer<List<NotificationMessage>> behavior) {
+            this.behavior = behavior;
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void send(List<NotificationMessage> messages) {
+            behavior.accept(messages);
+            received.addAll(messages);
+        }
+    }
+
+    private NotificationDispatcher create(TestChannel channel, int maxAttempts) {
+        return new NotificationDispatcher(List.of(channel), deliveryRepository, deadLetterRepository, transactionTemplate, objectMapper, meterRegistry,
+                10, maxAttempts, 10, 100, 30000, 10);
+    }
+
+    private NotificationDispatcher start(TestChannel channel, int maxAttempts) {
+        dispatcher = create(channel, maxAttempts);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private NotificationMessage message(int i) {
+        return new NotificationMessage(1L, "1000000" + i, "ACCEPTED", "예약이 승인되었습니다.", LocalDateTime.now());
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @AfterEach
+    void after() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        deliveryRepository.deleteAll();
+        deadLetterRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 알림은 잠시 후 다시 전송")
+    void retry() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        TestChannel channel = new TestChannel(messages -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw new IllegalStateException("일시적인 실패");
+            }
+        });
+        start(channel, 5);
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(message(i));
+        }
+
+        await(() -> channel.received.size() == 3);
+        await(() -> dispatcher.pending("test") == 0); // 전송 후 삭제
+        assertThat(meterRegistry.counter("notification.sent", "channel", "test").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.retried", "channel", "test").count()).isGreaterThan(0);
+        assertThat(deadLetterRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘긴 알림은 dead letter 로 저장")
+    void deadLetter() throws InterruptedException {
+        TestChannel channel = new TestChannel(messages -> {
+            throw new IllegalStateException("수신 서버 오류");
+        });
+        start(channel, 3);
+
+        dispatcher.dispatch(message(1));
+
+        await(() -> meterRegistry.counter("notification.dead_letter", "channel", "test").count() == 1);
+        List<NotificationDeadLetter> deadLetters = deadLetterRepository.findByReservationNumber("10000001");
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0).getAttempts()).isEqualTo(3);
+        assertThat(deadLetters.get(0).getLastError()).isEqualTo("수신 서버 오류");
+        assertThat(dispatcher.pending("test")).isZero();
+    }
+
+    @Test
+    @DisplayName("보내기 전에 서버가 재시작되어도 저장된 알림을 전송")
+    void sendAfterRestart() throws InterruptedException {
+        TestChannel channel = new TestChannel(messages -> {
+        });
+        create(channel, 5).dispatch(message(1)); // 전송 스레드 시작 전 종료된 서버
+
+        assertThat(deliveryRepository.countByChannel("test")).isEqualTo(1);
+
+        start(channel, 5);
+
+        await(() -> channel.received.size() == 1);
+        assertThat(channel.received.get(0).reservationNumber()).isEqualTo("10000001");
+    }
+
+    @Test
+    @DisplayName("알림을 저장한 트랜잭션이 롤백되면 전송하지 않음")
+    void skipRollback() throws InterruptedException {
+        TestChannel channel = new TestChannel(messages -> {
+        });
+        start(channel, 5);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.dispatch(message(1));
+            status.setRollbackOnly(); // outbox 발행 실패
+        });
+        dispatcher.dispatch(message(2));
+
+        await(() -> channel.received.size() == 1);
+        assertThat(channel.received.get(0).reservationNumber()).isEqualTo("10000002");
+        await(() -> dispatcher.pending("test") == 0);
+        assertThat(channel.received).hasSize(1);
+    }
+}
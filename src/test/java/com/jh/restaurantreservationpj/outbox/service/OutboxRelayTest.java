@@ -0,0 +1,90 @@
+package com.jh.restaurantreservationpj.outbox.service;
+
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import com.jh.restaurantreservationpj.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxPublisher inMemoryOutboxPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void before() {
+        inMemoryOutboxPublisher.clear();
+    }
+
+    @Test
+    @DisplayName("발행되지 않은 outbox 이벤트를 묶음으로 발행")
+    void relayBatch() {
+        outboxService.appendAll("test", "CREATED", List.of("1", "2", "3"), Function.identity());
+        double publishedBefore = meterRegistry.counter("outbox.relay.published").count();
+
+        int relayed = outboxRelay.relayBatch();
+
+        assertThat(relayed).isEqualTo(3);
+        assertThat(inMemoryOutboxPublisher.getPublished())
+                .filteredOn(event -> event.getAggregateType().equals("test"))
+                .extracting(OutboxEvent::getAggregateId)
+                .containsExactly("1", "2", "3");
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(meterRegistry.counter("outbox.relay.published").count()).isEqualTo(publishedBefore + 3);
+
+        // 이미 발행된 이벤트는 다시 가져가지 않음
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 이벤트는 발행 대기 상태로 남음")
+    void failRelayBatch() {
+        outboxService.append("test", "1", "CREATED", "1");
+
+        inMemoryOutboxPublisher.failNext();
+        try {
+            outboxRelay.relayBatch();
+        } catch (RuntimeException e) {
+            assertThat(e.getMessage()).isEqualTo(InMemoryOutboxPublisher.FAIL_MESSAGE);
+        }
+
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isEqualTo(1L);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 outbox 이벤트를 저장할 수 없음")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void failAppendWithoutTransaction() {
+        try {
+            outboxService.append("test", "1", "CREATED", "1");
+        } catch (IllegalTransactionStateException e) {
+            assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+요청 수 제한 Filter 를 거칠 때 요청 하나에 추가되는 시간 측정
+규칙이 없는 Filter 와 규칙 3개(검색 ip 별, 서로 다른 ip 1000개)를 확인하는 Filter 를 비교하고,
+여러 스레드가 같은 버킷을 사용하는 경우(CAS 경합)도 측정한다.
+ */
+@Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+class RateLimitFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilterBenchmarkTest.class);
+
+    private static final int REQUESTS = 200_000;
+    private static final int THREADS = 8;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    private List<MockHttpServletRequest> requests(int ips) {
+        List<MockHttpServletRequest> requests = new ArrayList<>(ips);
+        for (int i = 0; i < ips; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/restaurants/search");
+            request.setRemoteAddr("10.0." + (i / 256) + "." + (i % 256));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    // 요청 하나당 평균 시간(ns), 요청 객체는 스레드마다 따로 사용
+    private long run(RateLimitFilter filter, int ips, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            List<MockHttpServletRequest> requests = requests(ips);
+            futures.add(executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                for (int i = 0; i < REQUESTS / threads; i++) {
+                    filter.doFilter(requests.get(i % requests.size()), response, chain);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        return elapsed * threads / REQUESTS;
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 Filter 의 요청당 추가 시간")
+    void overhead() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter none = RateLimitFilterTest.filter(meterRegistry);
+        RateLimitFilter limited = RateLimitFilterTest.filter(meterRegistry,
+                RateLimitFilterTest.rule("reservation-create", "POST", "/reservations/reservation", RateLimitProperties.KeyType.MEMBER, 5, 0.2),
+                RateLimitFilterTest.rule("review-search", "GET", "/reviews/search/**", RateLimitProperties.KeyType.IP, 50, 20),
+                RateLimitFilterTest.rule("search", "GET", "/restaurants/search", RateLimitProperties.KeyType.IP, 1_000_000, 1_000_000));
+
+        run(none, 1000, 1); // 준비 실행
+        run(limited, 1000, 1);
+
+        long baseline = run(none, 1000, 1);
+        long single = run(limited, 1000, 1);
+        long contended = run(limited, 1, THREADS);
+
+        log.info("요청 수 제한 Filter 요청당 시간 : 규칙 없음 {}ns, 규칙 3개 {}ns, 같은 버킷 {} 스레드 경합 {}ns",
+                baseline, single, THREADS, contended);
+
+        assertThat(single - baseline).isLessThan(50_000); // 요청당 50us 미만
+    }
+}
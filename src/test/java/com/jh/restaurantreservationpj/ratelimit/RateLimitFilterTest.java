@@ -0,0 +1,126 @@
+package com.jh.restaurantreservationpj.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    static RateLimitProperties.Rule rule(String name, String method, String path, RateLimitProperties.KeyType key, int capacity, double refillPerSecond) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setMethod(method);
+        rule.setPaths(List.of(path));
+        rule.setKey(key);
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(refillPerSecond);
+        return rule;
+    }
+
+    static RateLimitFilter filter(SimpleMeterRegistry meterRegistry, RateLimitProperties.Rule... rules) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rules));
+        return new RateLimitFilter(properties, new LocalRateLimiter(properties), Optional.empty(), new ObjectMapper(), meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri, String remoteAddr) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void login(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    @AfterEach
+    void after() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("회원 별로 허용된 요청 수를 넘으면 429 와 Retry-After 응답")
+    void limitMember() throws ServletException, IOException {
+        RateLimitFilter filter = filter(meterRegistry, rule("reservation-create", "POST", "/reservations/reservation", RateLimitProperties.KeyType.MEMBER, 2, 0.2));
+
+        login("test");
+        assertThat(perform(filter, "POST", "/reservations/reservation", "1.1.1.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "POST", "/reservations/reservation", "2.2.2.2").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform(filter, "POST", "/reservations/reservation", "3.3.3.3");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("5"); // 5초마다 하나씩 채워짐
+        assertThat(rejected.getContentAsString()).contains("\"status\":429");
+        assertThat(meterRegistry.counter("rate_limit.rejected", "rule", "reservation-create").count()).isEqualTo(1);
+
+        login("other"); // 다른 회원은 따로 제한
+        assertThat(perform(filter, "POST", "/reservations/reservation", "1.1.1.1").getStatus()).isEqualTo(200);
+
+        // 규칙과 맞지 않는 요청은 제한하지 않음
+        login("test");
+        assertThat(perform(filter, "GET", "/reservations/reservation/search/10000001", "1.1.1.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("ip, 경로 변수 별로 요청 수 제한")
+    void limitIpAndPath() throws ServletException, IOException {
+        RateLimitProperties.Rule restaurant = rule("restaurant-detail", "GET", "/restaurants/restaurant/{restaurantName}", RateLimitProperties.KeyType.PATH, 1, 1);
+        restaurant.setVariable("restaurantName");
+        RateLimitFilter filter = filter(meterRegistry,
+                rule("search", null, "/reviews/search/**", RateLimitProperties.KeyType.IP, 1, 1),
+                restaurant);
+
+        assertThat(perform(filter, "GET", "/reviews/search/1", "1.1.1.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "GET", "/reviews/search/2", "1.1.1.1").getStatus()).isEqualTo(429);
+        assertThat(perform(filter, "GET", "/reviews/search/2", "2.2.2.2").getStatus()).isEqualTo(200);
+
+        assertThat(perform(filter, "GET", "/restaurants/restaurant/매장", "1.1.1.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "GET", "/restaurants/restaurant/매장", "2.2.2.2").getStatus()).isEqualTo(429);
+        assertThat(perform(filter, "GET", "/restaurants/restaurant/매장2", "2.2.2.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("서로 다른 ip 의 요청이 많아도 버킷 수는 최대 개수를 넘지 않음")
+    void limitBucketCount() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+        LocalRateLimiter limiter = new LocalRateLimiter(properties);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(limiter.tryAcquire("search:10.0." + (i / 256) + "." + (i % 256), 1, 1)).isZero();
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워짐")
+    void refill() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0); // 100ms 마다 하나씩 채워짐
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(100_000_000L);
+
+        assertThat(bucket.tryAcquire(100_000_000L)).isZero();
+        assertThat(bucket.tryAcquire(100_000_000L)).isGreaterThan(0);
+        assertThat(bucket.isFull(300_000_000L)).isTrue();
+    }
+}
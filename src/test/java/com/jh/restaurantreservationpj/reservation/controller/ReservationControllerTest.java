@@ -2,7 +2,10 @@ package com.jh.restaurantreservationpj.reservation.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.idempotency.IdempotencyAspect;
+import com.jh.restaurantreservationpj.idempotency.exception.IdempotencyErrorCode;
 import com.jh.restaurantreservationpj.member.dto.MemberSignInDto;
+import com.jh.restaurantreservationpj.reservation.dto.BulkReservationDto;
 import com.jh.restaurantreservationpj.reservation.dto.CancelReservationDto;
 import com.jh.restaurantreservationpj.reservation.dto.CreateReservationDto;
 import com.jh.restaurantreservationpj.reservation.dto.DenyReservationDto;
@@ -21,8 +24,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -168,6 +174,76 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$.data").exists());
     }
 
+    @Test
+    @DisplayName("예약 생성 컨트롤러 - 같은 Idempotency-Key 로 재시도한 경우 처음 응답을 돌려줌")
+    void createIdempotent() throws Exception {
+        CreateRestaurantDto.Request restaurantCreateRequest = CreateRestaurantDto.Request.builder()
+                .name("매장2")
+                .description("설명")
+                .totalAddress("주소")
+                .openTime("09")
+                .closeTime("23")
+                .build();
+        restaurantService.createRestaurant("manager", restaurantCreateRequest);
+
+        CreateReservationDto.Request newCreateRequest = createRequest.toBuilder()
+                .restaurantName("매장2")
+                .build();
+
+        MvcResult first = mockMvc.perform(post("/reservations/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newCreateRequest))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(IdempotencyAspect.HEADER, "create-idempotent"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyAspect.REPLAYED_HEADER))
+                .andReturn();
+        String reservationNumber = objectMapper.readTree(first.getResponse().getContentAsString()).get("data").get("reservationNumber").asText();
+
+        // 이미 예약한 매장이지만 새로 예약하지 않고 처음 응답을 돌려줌
+        mockMvc.perform(post("/reservations/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newCreateRequest))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(IdempotencyAspect.HEADER, "create-idempotent"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyAspect.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.data.reservationNumber").value(reservationNumber));
+    }
+
+    @Test
+    @DisplayName("예약 생성 컨트롤러 실패 - 다른 요청에 사용한 Idempotency-Key")
+    void failCreateIdempotent() throws Exception {
+        CreateRestaurantDto.Request restaurantCreateRequest = CreateRestaurantDto.Request.builder()
+                .name("매장2")
+                .description("설명")
+                .totalAddress("주소")
+                .openTime("09")
+                .closeTime("23")
+                .build();
+        restaurantService.createRestaurant("manager", restaurantCreateRequest);
+
+        CreateReservationDto.Request newCreateRequest = createRequest.toBuilder()
+                .restaurantName("매장2")
+                .build();
+
+        mockMvc.perform(post("/reservations/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newCreateRequest))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(IdempotencyAspect.HEADER, "fail-create-idempotent"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/reservations/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newCreateRequest.toBuilder().time("21").build()))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(IdempotencyAspect.HEADER, "fail-create-idempotent"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(IdempotencyErrorCode.KEY_REUSED.getMessage()));
+    }
+
     @Test
     @DisplayName("예약 생성 컨트롤러 실패 - 유효성 검증 실패1")
     void failCreate1() throws Exception {
@@ -662,4 +738,79 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$.status").value(403))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("예약 일괄 승인 컨트롤러")
+    void acceptAll() throws Exception {
+        BulkReservationDto.Request request = BulkReservationDto.Request.builder()
+                .reservationNumbers(List.of(reservationNumber))
+                .build();
+
+        mockMvc.perform(put("/reservations/bulk/accept")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.data[0].reservationNumber").value(reservationNumber))
+                .andExpect(jsonPath("$.data[0].success").value(true));
+    }
+
+    @Test
+    @DisplayName("예약 일괄 거절 컨트롤러")
+    void denyAll() throws Exception {
+        BulkReservationDto.DenyRequest request = BulkReservationDto.DenyRequest.builder()
+                .reservationNumbers(List.of(reservationNumber, "10101010"))
+                .reason("거절 이유")
+                .build();
+
+        mockMvc.perform(put("/reservations/bulk/deny")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[1].success").value(false));
+    }
+
+    @Test
+    @DisplayName("예약 일괄 승인 컨트롤러 실패 - 유효성 검증 실패")
+    void failAcceptAll() throws Exception {
+        BulkReservationDto.Request emptyRequest = BulkReservationDto.Request.builder()
+                .reservationNumbers(List.of())
+                .build();
+
+        mockMvc.perform(put("/reservations/bulk/accept")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(emptyRequest))
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].status").value(400));
+
+        BulkReservationDto.Request badRequest = BulkReservationDto.Request.builder()
+                .reservationNumbers(List.of("10"))
+                .build();
+
+        mockMvc.perform(put("/reservations/bulk/accept")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(badRequest))
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].status").value(400));
+    }
+
+    @Test
+    @DisplayName("예약 일괄 승인 컨트롤러 실패 - 권한 없음")
+    void failAcceptAll2() throws Exception {
+        BulkReservationDto.Request request = BulkReservationDto.Request.builder()
+                .reservationNumbers(List.of(reservationNumber))
+                .build();
+
+        mockMvc.perform(put("/reservations/bulk/accept")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value(403));
+    }
+}
@@ -0,0 +1,89 @@
+package com.jh.restaurantreservationpj.reservation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.restaurantreservationpj.config.ConcurrencyLimitedDataSource;
+import com.jh.restaurantreservationpj.member.dto.MemberSignInDto;
+import com.jh.restaurantreservationpj.restaurant.dto.CreateRestaurantDto;
+import com.jh.restaurantreservationpj.restaurant.service.RestaurantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// SSE 연결은 트랜잭션 없이 확인 (테스트 트랜잭션이 커넥션을 잡고 있으면 사용 중인 커넥션 수를 확인할 수 없음)
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReservationStreamTest {
+
+    private static final String MANAGER = "stream-manager";
+    private static final String RESTAURANT = "스트림매장";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void after() {
+        restaurantService.deleteRestaurant(MANAGER, RESTAURANT);
+    }
+
+    @Test
+    @DisplayName("SSE 연결을 유지하는 동안 db 커넥션을 잡고 있지 않음")
+    void streamReleasesConnection() throws Exception {
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"" + MANAGER + "\",\"password\":\"1234\",\"roles\":[\"admin\"]}"))
+                .andExpect(status().isOk());
+
+        MvcResult signIn = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MemberSignInDto.Request.builder()
+                                .userId(MANAGER)
+                                .password("1234")
+                                .build())))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(signIn.getResponse().getContentAsString()).get("data").asText();
+
+        restaurantService.createRestaurant(MANAGER, CreateRestaurantDto.Request.builder()
+                .name(RESTAURANT)
+                .description("설명")
+                .totalAddress("주소")
+                .openTime("09")
+                .closeTime("23")
+                .build());
+
+        mockMvc.perform(get("/reservations/stream/" + RESTAURANT)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted());
+
+        // 연결은 열려 있지만 구독 확인에 사용한 커넥션은 반납됨 (스케줄 작업이 잠시 사용하는 경우를 위해 잠시 대기)
+        ConcurrencyLimitedDataSource gate = (ConcurrencyLimitedDataSource) dataSource;
+        long deadline = System.currentTimeMillis() + 2000;
+        while (gate.getInUse() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(gate.getInUse()).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.jh.restaurantreservationpj.reservation.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationEventSubscriberTest {
+
+    // 보낸 이벤트를 기록하는 연결
+    static class RecordingEmitter extends SseEmitter {
+        final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            sent.add(items);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> event(String name) {
+        return SseEmitter.event().name(name).data(name).build();
+    }
+
+    @Test
+    @DisplayName("대기열의 이벤트를 순서대로 전송")
+    void sendInOrder() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        ReservationEventSubscriber subscriber = new ReservationEventSubscriber(1L, emitter, 10, Runnable::run, s -> {
+        });
+
+        Set<ResponseBodyEmitter.DataWithMediaType> first = event("CREATED");
+        Set<ResponseBodyEmitter.DataWithMediaType> second = event("CANCELED");
+        subscriber.offer(first);
+        subscriber.offer(second);
+
+        assertThat(emitter.sent).containsExactly(first, second);
+        assertThat(subscriber.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 대기열이 가득 찬 연결은 종료")
+    void closeSlowSubscriber() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<Runnable> sendTasks = new ArrayList<>(); // 전송 스레드가 실행하지 못한 작업
+        List<ReservationEventSubscriber> removed = new ArrayList<>();
+        ReservationEventSubscriber subscriber = new ReservationEventSubscriber(1L, emitter, 3, sendTasks::add, removed::add);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(subscriber.offer(event("CREATED"))).isTrue();
+        }
+        assertThat(sendTasks).hasSize(1); // 구독자마다 전송 작업은 하나만 예약
+
+        assertThat(subscriber.offer(event("CREATED"))).isFalse();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(subscriber.pending()).isZero();
+        assertThat(emitter.completed).isTrue();
+        assertThat(removed).containsExactly(subscriber);
+
+        sendTasks.forEach(Runnable::run);
+        assertThat(emitter.sent).isEmpty();
+    }
+}
@@ -3,11 +3,19 @@ package com.jh.restaurantreservationpj.reservation.repository;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.repository.MemberRepository;
 import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
 import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
 import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
@@ -16,12 +24,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @Transactional
 class ReservationRepositoryTest {
 
+    private static final Logger log = LoggerFactory.getLogger(ReservationRepositoryTest.class);
+
     @Autowired
     private ReservationRepository reservationRepository;
 
@@ -31,6 +46,9 @@ class ReservationRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "regDate"));
 
     @BeforeEach
@@ -62,9 +80,7 @@ class ReservationRepositoryTest {
                 .reservationMember(member)
                 .reservationRestaurant(restaurant)
                 .reservationTime("13")
-                .isAccept(false)
-                .isVisit(false)
-                .isCancel(false)
+                .status(ReservationStatus.DENIED)
                 .build();
         reservationRepository.save(reservation);
     }
@@ -134,4 +150,173 @@ class ReservationRepositoryTest {
         assertThat(memberReservationList.getContent()).hasSize(1);
         assertThat(memberReservationList.getContent().get(0).getReservationMember().getUserId()).isEqualTo("test");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 날짜, 같은 시간에 겹치는 예약 조회")
+    void conflictReservation() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        List<Reservation> conflictList = reservationRepository.findAllConflictReservation(member, restaurant, LocalDate.now(), "13");
+
+        assertThat(conflictList).hasSize(1);
+        assertThat(conflictList.get(0).getReservationNumber()).isEqualTo("12341234");
+    }
+
+    @Test
+    @Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+    @DisplayName("예약 이력이 많아도 오늘 같은 시간의 예약만 조회")
+    void conflictReservationWithLongHistory() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        // 지난 날짜의 같은 시간 예약 이력 10000건
+        List<Reservation> history = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            history.add(Reservation.builder()
+                    .reservationNumber(String.valueOf(20000000 + i))
+                    .reservationMember(member)
+                    .reservationRestaurant(restaurant)
+                    .reservationDate(LocalDate.now().minusDays(1 + i % 365))
+                    .reservationTime("13")
+                    .status(ReservationStatus.VISITED)
+                    .build());
+        }
+        reservationRepository.saveAll(history);
+        reservationRepository.flush();
+
+        long start = System.nanoTime();
+        List<Reservation> conflictList = reservationRepository.findAllConflictReservation(member, restaurant, LocalDate.now(), "13");
+        long elapsed = System.nanoTime() - start;
+        log.info("이력 10000건에서 겹치는 예약 조회 = {} µs", elapsed / 1000);
+
+        assertThat(conflictList).hasSize(1);
+        assertThat(reservationRepository.findAllConflictReservation(member, restaurant, LocalDate.now(), "14")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 방문하지 않은 예약을 한 번에 자동 취소 처리")
+    void autoCancelBefore() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        Reservation overdue = Reservation.builder()
+                .reservationNumber("12341236")
+                .reservationMember(member)
+                .reservationRestaurant(restaurant)
+                .reservationDate(LocalDate.now().minusDays(1))
+                .reservationTime("13")
+                .build();
+        reservationRepository.save(overdue);
+
+        int canceled = reservationRepository.autoCancelBefore(LocalDate.now(), "자동 취소", LocalDateTime.now());
+
+        Reservation canceledReservation = reservationRepository.findByReservationNumber("12341236").orElse(null);
+        Reservation deniedReservation = reservationRepository.findByReservationNumber("12341234").orElse(null);
+
+        assertThat(canceled).isEqualTo(1);
+        assertThat(canceledReservation.getStatus()).isEqualTo(ReservationStatus.AUTO_CANCELED);
+        assertThat(canceledReservation.getDelDate()).isNotNull();
+        assertThat(deniedReservation.getStatus()).isEqualTo(ReservationStatus.DENIED);
+    }
+
+    @Test
+    @DisplayName("오늘 예약 중 지정한 시간까지의 방문하지 않은 예약을 한 번에 자동 취소 처리")
+    void autoCancelOverdue() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        Reservation early = Reservation.builder()
+                .reservationNumber("12341236")
+                .reservationMember(member)
+                .reservationRestaurant(restaurant)
+                .reservationTime("10")
+                .build();
+        Reservation late = early.toBuilder()
+                .reservationNumber("12341237")
+                .reservationTime("18")
+                .build();
+        reservationRepository.save(early);
+        reservationRepository.save(late);
+
+        int canceled = reservationRepository.autoCancelOverdue(LocalDate.now(), "12", "자동 취소", LocalDateTime.now());
+
+        assertThat(canceled).isEqualTo(1);
+        assertThat(reservationRepository.findByReservationNumber("12341236").orElse(null).getStatus()).isEqualTo(ReservationStatus.AUTO_CANCELED);
+        assertThat(reservationRepository.findByReservationNumber("12341237").orElse(null).getStatus()).isEqualTo(ReservationStatus.PENDING);
+    }
+
+    // batchSize 개씩 묶어서 예약 count 개 저장 후 걸린 시간(ms) 반환
+    // 1000개마다 flush, clear 하여 영속성 컨텍스트가 커지지 않도록 한다.
+    private long seedReservations(String prefix, int count, int batchSize) {
+        Long memberId = memberRepository.findByUserId("test").orElse(null).getId();
+        Long restaurantId = restaurantRepository.findByName("매장").orElse(null).getId();
+
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Reservation.builder()
+                    .reservationNumber(prefix + i)
+                    .reservationMember(entityManager.getReference(Member.class, memberId))
+                    .reservationRestaurant(entityManager.getReference(Restaurant.class, restaurantId))
+                    .reservationTime("13")
+                    .build());
+
+            if ((i + 1) % 1000 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        session.setJdbcBatchSize(null); // 설정값(hibernate.jdbc.batch_size)으로 복구
+        return elapsed;
+    }
+
+    @Test
+    @Tag("benchmark") // 예약 10만 건을 저장하므로 ./gradlew benchmark 로 따로 실행
+    @DisplayName("예약 대량 저장 시 batch insert 와 건별 insert 비교")
+    void seedReservationsInBatch() {
+        int count = 50_000;
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        long singleMillis = seedReservations("S", count, 1);
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long batchMillis = seedReservations("B", count, 100);
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        log.info("예약 {}개 저장 : 건별 {}ms (sql {}회), batch {}ms (sql {}회)", count, singleMillis, singleStatements, batchMillis, batchStatements);
+        assertThat(reservationRepository.count()).isEqualTo(count * 2L + 1);
+        assertThat(batchStatements).isLessThan(singleStatements / 10); // 아이디를 db 에서 받지 않으므로 insert 가 묶여서 전송됨
+    }
+
+    @Test
+    @DisplayName("매장의 날짜별 상태별 예약 수 조회")
+    void countByStatus() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        Reservation pending = Reservation.builder()
+                .reservationNumber("12341236")
+                .reservationMember(member)
+                .reservationRestaurant(restaurant)
+                .reservationTime("18")
+                .build();
+        reservationRepository.save(pending);
+        reservationRepository.save(pending.toBuilder().reservationNumber("12341237").build());
+
+        List<Object[]> counts = reservationRepository.countByStatus(restaurant, LocalDate.now());
+
+        assertThat(counts).hasSize(2);
+        for (Object[] row : counts) {
+            assertThat(row[1]).isEqualTo(row[0] == ReservationStatus.PENDING ? 2L : 1L);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockReservationNumberAllocatorTest {
+
+    @Test
+    @DisplayName("예약 번호는 10000000부터 순서대로 발급")
+    void allocate() {
+        AtomicLong counter = new AtomicLong();
+        BlockReservationNumberAllocator allocator = new BlockReservationNumberAllocator(counter::addAndGet, 10);
+
+        assertThat(allocator.allocate()).isEqualTo("10000000");
+        assertThat(allocator.allocate()).isEqualTo("10000001");
+        assertThat(counter.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("구간을 모두 사용한 경우에만 새 구간 임대")
+    void leaseOnlyWhenExhausted() {
+        AtomicInteger leaseCount = new AtomicInteger();
+        AtomicLong counter = new AtomicLong();
+        BlockReservationNumberAllocator allocator = new BlockReservationNumberAllocator(size -> {
+            leaseCount.incrementAndGet();
+            return counter.addAndGet(size);
+        }, 100);
+
+        for (int i = 0; i < 250; i++) {
+            allocator.allocate();
+        }
+
+        assertThat(leaseCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발급 가능한 번호를 모두 사용하면 처음 번호부터 다시 발급")
+    void wrapAround() {
+        AtomicLong counter = new AtomicLong(89999999);
+        BlockReservationNumberAllocator allocator = new BlockReservationNumberAllocator(counter::addAndGet, 1);
+
+        assertThat(allocator.allocate()).isEqualTo("99999999");
+        assertThat(allocator.allocate()).isEqualTo("10000000");
+    }
+
+    @Test
+    @DisplayName("여러 노드에서 동시에 발급해도 예약 번호가 중복되지 않음")
+    void concurrentAllocate() throws InterruptedException {
+        AtomicLong sharedCounter = new AtomicLong(); // redis 카운터 역할
+        BlockReservationNumberAllocator node1 = new BlockReservationNumberAllocator(sharedCounter::addAndGet, 1000);
+        BlockReservationNumberAllocator node2 = new BlockReservationNumberAllocator(sharedCounter::addAndGet, 1000);
+
+        int threadCount = 32;
+        int perThread = 1500;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        AtomicInteger total = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            BlockReservationNumberAllocator allocator = i % 2 == 0 ? node1 : node2;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        numbers.add(allocator.allocate());
+                        total.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        assertThat(total.get()).isEqualTo(threadCount * perThread);
+        assertThat(numbers).hasSize(threadCount * perThread);
+        assertThat(numbers).allMatch(n -> n.matches("\\d{8}"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RedisReservationNumberLeaserTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void leaseResults(Long first, Long... rest) {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(RedisReservationNumberLeaser.KEY)), anyString())).thenReturn(first, rest);
+    }
+
+    @Test
+    @DisplayName("카운터가 있으면 그대로 임대")
+    void lease() {
+        leaseResults(2000L);
+        RedisReservationNumberLeaser leaser = new RedisReservationNumberLeaser(stringRedisTemplate, () -> "10000500", 100);
+
+        assertThat(leaser.applyAsLong(1000)).isEqualTo(2000L);
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 db 의 가장 큰 예약 번호 다음부터 다시 채운 뒤 임대")
+    void seedFromMaxNumber() {
+        leaseResults(-1L, 1601L + 1000);
+        when(valueOperations.setIfAbsent(anyString(), anyString())).thenReturn(true);
+        RedisReservationNumberLeaser leaser = new RedisReservationNumberLeaser(stringRedisTemplate, () -> "10001500", 100);
+
+        long end = leaser.applyAsLong(1000);
+
+        // 10001500 까지 발급됨 -> 다음 카운터 1501 + 건너뛰는 100
+        verify(valueOperations).setIfAbsent(RedisReservationNumberLeaser.KEY, "1601");
+        assertThat(end).isEqualTo(2601L);
+    }
+
+    @Test
+    @DisplayName("예약이 없으면 0부터 채움")
+    void seedEmpty() {
+        leaseResults(-1L, 1000L);
+        when(valueOperations.setIfAbsent(anyString(), anyString())).thenReturn(true);
+        RedisReservationNumberLeaser leaser = new RedisReservationNumberLeaser(stringRedisTemplate, () -> null, 100);
+
+        assertThat(leaser.applyAsLong(1000)).isEqualTo(1000L);
+        verify(valueOperations).setIfAbsent(RedisReservationNumberLeaser.KEY, "0");
+    }
+
+    @Test
+    @DisplayName("다시 채운 뒤에도 카운터가 없으면 임대 실패")
+    void failSeed() {
+        leaseResults(-1L, -1L);
+        RedisReservationNumberLeaser leaser = new RedisReservationNumberLeaser(stringRedisTemplate, () -> null, 100);
+
+        assertThatThrownBy(() -> leaser.applyAsLong(1000))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("예약 번호 구간을 임대할 수 없습니다.");
+    }
+}
@@ -1,11 +1,18 @@
 package com.jh.restaurantreservationpj.reservation.service;
 
+import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.config.QueryCounter;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.exception.MemberErrorCode;
 import com.jh.restaurantreservationpj.member.exception.MemberException;
 import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import com.jh.restaurantreservationpj.outbox.domain.OutboxEvent;
+import com.jh.restaurantreservationpj.outbox.repository.OutboxEventRepository;
 import com.jh.restaurantreservationpj.reservation.domain.Reservation;
+import com.jh.restaurantreservationpj.reservation.domain.ReservationStatus;
 import com.jh.restaurantreservationpj.reservation.dto.*;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEvent;
+import com.jh.restaurantreservationpj.reservation.event.ReservationEventHub;
 import com.jh.restaurantreservationpj.reservation.exception.ReservationErrorCode;
 import com.jh.restaurantreservationpj.reservation.exception.ReservationException;
 import com.jh.restaurantreservationpj.reservation.repository.ReservationRepository;
@@ -13,12 +20,14 @@ import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
 import com.jh.restaurantreservationpj.restaurant.exception.RestaurantErrorCode;
 import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
 import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,8 +35,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -53,6 +67,20 @@ class ReservationServiceTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReservationEventHub reservationEventHub;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private static final long LIST_QUERY_BUDGET = 4; // 목록 조회 1회에 허용하는 쿼리 수 (회원, 매장, 목록, 개수)
+
     CreateReservationDto.Request createRequest;
     Pageable pageable = PageRequest.of(0, 10, Sort.Direction.ASC, "regDate");
     Pageable pageableForMember = PageRequest.of(0, 10, Sort.Direction.DESC, "regDate");
@@ -381,7 +409,7 @@ class ReservationServiceTest {
 
         assertThat(member.getMemberRoles().stream().filter(r -> r.getRole().getName().equals("WRITE")).findFirst().orElse(null)).isNotNull();
         assertThat(reservationNumber).isEqualTo(reservation.getReservationNumber());
-        assertThat(visitedReservation.isVisit()).isEqualTo(true);
+        assertThat(visitedReservation.getStatus()).isEqualTo(ReservationStatus.VISITED);
     }
 
     @Test
@@ -537,4 +565,235 @@ class ReservationServiceTest {
             assertThat(e.getMessage()).isEqualTo(MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원이 예약 목록을 조회해도 방문 인증 시간이 지난 예약을 DB에 저장하지 않음")
+    void checkForMemberWithoutWrite() {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        Reservation overdue = Reservation.builder()
+                .reservationNumber("12341236")
+                .reservationMember(member)
+                .reservationRestaurant(restaurant)
+                .reservationDate(LocalDate.now().minusDays(1))
+                .reservationTime("13")
+                .build();
+        reservationRepository.save(overdue);
+
+        Page<CheckForMemberReservationDto.Response> reservationList = reservationService.checkForMemberReservation("test", pageableForMember);
+        Reservation reservation = reservationRepository.findByReservationNumber("12341236").orElse(null);
+
+        assertThat(reservationList.getContent().get(0).getDetailMessage()).isEqualTo(CheckForMemberReservationDto.DetailMessage.CANCEL.getMessage());
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        assertThat(reservation.getDelDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("점장의 예약 목록 조회 시 예약 수와 관계없이 정해진 쿼리 수 이내로 조회")
+    void checkForManagerQueryCount() {
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+        for (int i = 0; i < 20; i++) { // 서로 다른 회원 20명의 예약
+            Member member = memberRepository.save(Member.builder()
+                    .userId("member" + i)
+                    .userPWD("1234")
+                    .build());
+            reservationRepository.save(Reservation.builder()
+                    .reservationNumber("2000000" + i)
+                    .reservationMember(member)
+                    .reservationRestaurant(restaurant)
+                    .reservationTime("21")
+                    .build());
+        }
+
+        long pageQueries = QueryCounter.count(entityManager, () -> reservationService.checkForManagerReservation("manager", "매장", PageRequest.of(0, 20, Sort.Direction.ASC, "regDate")));
+        long cursorQueries = QueryCounter.count(entityManager, () -> reservationService.checkForManagerReservation("manager", "매장", null, 20));
+
+        assertThat(pageQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+        assertThat(cursorQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("회원의 예약 목록 조회 시 예약 수와 관계없이 정해진 쿼리 수 이내로 조회")
+    void checkForMemberQueryCount() {
+        Member manager = memberRepository.findByUserId("manager").orElse(null);
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        for (int i = 0; i < 20; i++) { // 서로 다른 매장 20곳의 예약
+            Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                    .name("매장" + i)
+                    .description("설명")
+                    .totalAddress("주소")
+                    .manager(manager)
+                    .build());
+            reservationRepository.save(Reservation.builder()
+                    .reservationNumber("3000000" + i)
+                    .reservationMember(member)
+                    .reservationRestaurant(restaurant)
+                    .reservationTime("21")
+                    .build());
+        }
+
+        long pageQueries = QueryCounter.count(entityManager, () -> reservationService.checkForMemberReservation("test", PageRequest.of(0, 20, Sort.Direction.DESC, "regDate")));
+        long cursorQueries = QueryCounter.count(entityManager, () -> reservationService.checkForMemberReservation("test", null, 20));
+
+        assertThat(pageQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+        assertThat(cursorQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+    }
+
+    // 서로 다른 회원의 대기중인 예약 count 개 저장 후 예약 번호 반환
+    private List<String> saveWaitingReservations(String prefix, int count) {
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .userId(prefix + "member" + i)
+                    .userPWD("1234")
+                    .build());
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .reservationNumber(prefix + "000000" + i)
+                    .reservationMember(member)
+                    .reservationRestaurant(restaurant)
+                    .reservationTime("23")
+                    .build());
+            numbers.add(reservation.getReservationNumber());
+        }
+
+        return numbers;
+    }
+
+    @Test
+    @DisplayName("점장이 예약 일괄 승인하는 서비스")
+    void acceptReservations() {
+        List<String> numbers = saveWaitingReservations("4", 3);
+        List<String> requestNumbers = new ArrayList<>(numbers);
+        requestNumbers.add("49999999"); // 없는 예약
+
+        List<BulkReservationDto.Result> results = reservationService.acceptReservations("manager", BulkReservationDto.Request.builder()
+                .reservationNumbers(requestNumbers)
+                .build());
+
+        assertThat(results).extracting(BulkReservationDto.Result::isSuccess).containsExactly(true, true, true, false);
+        assertThat(results.get(3).getFailMessage()).isEqualTo(ReservationErrorCode.NOT_FOUND_RESERVATION.getMessage());
+        assertThat(results.get(0).getReservation().getDetailMessage()).isEqualTo(CheckForMemberReservationDto.DetailMessage.ACCEPT.getMessage());
+        for (String number : numbers) {
+            Reservation reservation = reservationRepository.findByReservationNumber(number).orElse(null);
+            assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.ACCEPTED);
+            assertThat(reservation.getDelDate()).isNotNull();
+            assertThat(cacheManager.getCache(CacheKey.RESERVATION_KEY).get(number)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("점장이 예약 일괄 거절하는 서비스 - 이미 처리된 예약과 다른 매장의 예약은 실패 결과로 반환")
+    void denyReservations() {
+        List<String> numbers = saveWaitingReservations("5", 2);
+        reservationService.acceptReservations("manager", BulkReservationDto.Request.builder()
+                .reservationNumbers(List.of(numbers.get(0)))
+                .build());
+
+        Member otherManager = memberRepository.save(Member.builder()
+                .userId("otherManager")
+                .userPWD("1234")
+                .build());
+        Restaurant otherRestaurant = restaurantRepository.save(Restaurant.builder()
+                .name("다른 매장")
+                .description("설명")
+                .totalAddress("주소")
+                .manager(otherManager)
+                .build());
+        Reservation other = reservationRepository.save(Reservation.builder()
+                .reservationNumber("59999999")
+                .reservationMember(otherManager)
+                .reservationRestaurant(otherRestaurant)
+                .reservationTime("23")
+                .build());
+
+        List<BulkReservationDto.Result> results = reservationService.denyReservations("manager", BulkReservationDto.DenyRequest.builder()
+                .reservationNumbers(List.of(numbers.get(0), numbers.get(1), other.getReservationNumber()))
+                .reason(" 거절 이유 ")
+                .build());
+
+        assertThat(results).extracting(BulkReservationDto.Result::isSuccess).containsExactly(false, true, false);
+        assertThat(results.get(0).getFailMessage()).isEqualTo(ReservationErrorCode.NOT_FOUND_RESERVATION.getMessage());
+        assertThat(results.get(2).getFailMessage()).isEqualTo(ReservationErrorCode.DIFF_RESERVATION_MANAGER.getMessage());
+        assertThat(reservationRepository.findByReservationNumber(numbers.get(1)).orElse(null).getDeniedMessage()).isEqualTo("거절 이유");
+        assertThat(reservationRepository.findByReservationNumber("59999999").orElse(null).getDelDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 예약 상태 변경 시 실패")
+    void failChangeStatus() {
+        CreateReservationDto.Response created = reservationService.createReservation("test", createRequest);
+        Reservation reservation = reservationRepository.findByReservationNumber(created.getReservationNumber()).orElse(null);
+
+        try {
+            reservation.changeStatus(ReservationStatus.VISITED); // 승인 전 방문 완료로 변경
+        } catch (ReservationException e) {
+            assertThat(e.getMessage()).isEqualTo(ReservationErrorCode.IMPOSSIBLE_STATUS_CHANGE.getMessage());
+        }
+
+        assertThat(ReservationStatus.PENDING.canChangeTo(ReservationStatus.ACCEPTED)).isTrue();
+        assertThat(ReservationStatus.ACCEPTED.canChangeTo(ReservationStatus.VISITED)).isTrue();
+        assertThat(ReservationStatus.DENIED.canChangeTo(ReservationStatus.ACCEPTED)).isFalse();
+        assertThat(ReservationStatus.VISITED.canChangeTo(ReservationStatus.AUTO_CANCELED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("점장이 매장의 오늘 상태별 예약 수를 확인하는 서비스")
+    void checkReservationStatus() {
+        saveWaitingReservations("6", 3);
+        List<String> accepted = saveWaitingReservations("7", 1);
+        reservationService.acceptReservations("manager", BulkReservationDto.Request.builder()
+                .reservationNumbers(accepted)
+                .build());
+
+        Map<ReservationStatus, Long> counts = reservationService.checkReservationStatus("manager", "매장");
+
+        assertThat(counts.get(ReservationStatus.PENDING)).isEqualTo(3L);
+        assertThat(counts.get(ReservationStatus.ACCEPTED)).isEqualTo(1L);
+        assertThat(counts.get(ReservationStatus.DENIED)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("점장이 매장의 예약 이벤트를 구독하는 서비스")
+    void subscribeReservationEvents() {
+        int before = reservationEventHub.getSubscriberCount();
+
+        SseEmitter emitter = reservationService.subscribeReservationEvents("manager", "매장");
+
+        assertThat(emitter).isNotNull();
+        assertThat(reservationEventHub.getSubscriberCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("점장이 매장의 예약 이벤트를 구독하는 서비스 실패 - 매장의 관리자가 아닌 경우")
+    void failSubscribeReservationEvents() {
+        try {
+            reservationService.subscribeReservationEvents("test", "매장");
+        } catch (ReservationException e) {
+            assertThat(e.getMessage()).isEqualTo(ReservationErrorCode.DIFF_RESERVATION_MANAGER.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("예약 상태 변경 시 같은 트랜잭션으로 outbox 이벤트 저장")
+    void recordOutboxEvents() {
+        String reservationNumber = reservationService.createReservation("test", createRequest).getReservationNumber();
+        reservationService.acceptReservation("manager", reservationNumber);
+        List<String> bulk = saveWaitingReservations("8", 2);
+        reservationService.denyReservations("manager", BulkReservationDto.DenyRequest.builder()
+                .reservationNumbers(bulk)
+                .reason("예약 거절")
+                .build());
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+
+        assertThat(events)
+                .filteredOn(event -> event.getAggregateId().equals(reservationNumber))
+                .extracting(OutboxEvent::getEventType)
+                .containsExactly(ReservationEvent.Type.CREATED.name(), ReservationEvent.Type.ACCEPTED.name());
+        assertThat(events)
+                .filteredOn(event -> bulk.contains(event.getAggregateId()) && event.getEventType().equals(ReservationEvent.Type.DENIED.name()))
+                .hasSize(2);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jh.restaurantreservationpj.reservation.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ReservationSlotInventoryTest {
+
+    private static final Long RESTAURANT_ID = -1L; // 테스트용 매장 pk (DB에 없는 매장)
+    private static final String TIME = "13";
+
+    @Autowired
+    private ReservationSlotInventory reservationSlotInventory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void clear() {
+        stringRedisTemplate.delete("reservation:slot:" + RESTAURANT_ID + ":" + LocalDate.now() + ":" + TIME);
+    }
+
+    @Test
+    @DisplayName("예약 가능 수가 N인 시간에 M개의 예약이 동시에 들어오면 정확히 N개만 성공")
+    void concurrentReserve() throws InterruptedException {
+        int capacity = 10;
+        int requestCount = 100;
+        AtomicInteger success = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    if (reservationSlotInventory.tryReserve(RESTAURANT_ID, LocalDate.now(), TIME, capacity)) {
+                        success.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        assertThat(success.get()).isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("반납한 자리는 다시 예약 가능")
+    void release() {
+        assertThat(reservationSlotInventory.tryReserve(RESTAURANT_ID, LocalDate.now(), TIME, 1)).isTrue();
+        assertThat(reservationSlotInventory.tryReserve(RESTAURANT_ID, LocalDate.now(), TIME, 1)).isFalse();
+
+        reservationSlotInventory.release(RESTAURANT_ID, LocalDate.now(), TIME);
+
+        assertThat(reservationSlotInventory.tryReserve(RESTAURANT_ID, LocalDate.now(), TIME, 1)).isTrue();
+    }
+}
@@ -352,6 +352,23 @@ class RestaurantControllerTest {
                 .andExpect(jsonPath("$[0].status").value(400));
     }
 
+    @Test
+    @DisplayName("매장 이름 자동 완성 컨트롤러")
+    void autocomplete() throws Exception {
+        restaurantService.createRestaurant("manager", createRequest);
+
+        CreateRestaurantDto.Request secondRequest = createRequest.toBuilder()
+                .name("매가")
+                .build();
+        restaurantService.createRestaurant("manager", secondRequest);
+
+        mockMvc.perform(get("/restaurants/autocomplete?word=매&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0]").value("매가"));
+    }
+
     @Test
     @DisplayName("매장 상세 조회 컨트롤러")
     void check() throws Exception {
@@ -0,0 +1,141 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import com.jh.restaurantreservationpj.config.CacheKey;
+import com.jh.restaurantreservationpj.member.domain.Member;
+import com.jh.restaurantreservationpj.member.repository.MemberRepository;
+import com.jh.restaurantreservationpj.restaurant.domain.Restaurant;
+import com.jh.restaurantreservationpj.restaurant.exception.RestaurantException;
+import com.jh.restaurantreservationpj.restaurant.repository.RestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 여러 스레드가 동시에 조회해야 하므로 트랜잭션 없이 실제로 저장한 데이터로 확인
+@SpringBootTest
+class RestaurantCacheStampedeTest {
+
+    private static final int THREAD_COUNT = 500;
+
+    @SpyBean
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String restaurantName;
+    private String missingName;
+
+    @BeforeEach
+    void before() {
+        Member manager = memberRepository.save(Member.builder()
+                .userId("manager-" + UUID.randomUUID())
+                .userPWD("1234")
+                .memberRoles(new ArrayList<>())
+                .build());
+
+        restaurantName = "매장-" + UUID.randomUUID();
+        missingName = "없는 매장-" + UUID.randomUUID();
+
+        restaurantRepository.save(Restaurant.builder()
+                .manager(manager)
+                .name(restaurantName)
+                .totalAddress("주소")
+                .description("설명")
+                .openTime("08")
+                .closeTime("22")
+                .build());
+
+        clearInvocations(restaurantRepository);
+    }
+
+    @AfterEach
+    void after() {
+        cacheManager.getCache(CacheKey.RESTAURANT_KEY).evict(restaurantName);
+        cacheManager.getCache(CacheKey.RESTAURANT_MISS_KEY).evict(missingName);
+        restaurantRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("캐시가 없는 매장을 동시에 조회해도 db 는 한 번만 조회")
+    void singleFlight() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+
+        burst(() -> {
+            if (restaurantName.equals(restaurantService.checkRestaurant(restaurantName).getName())) {
+                success.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(THREAD_COUNT);
+        verify(restaurantRepository, times(1)).findByName(restaurantName);
+    }
+
+    @Test
+    @DisplayName("없는 매장을 동시에 조회해도 db 는 한 번만 조회")
+    void negativeCache() throws InterruptedException {
+        AtomicInteger notFound = new AtomicInteger();
+
+        burst(() -> {
+            try {
+                restaurantService.checkRestaurant(missingName);
+            } catch (RestaurantException e) {
+                notFound.incrementAndGet();
+            }
+        });
+
+        assertThat(notFound.get()).isEqualTo(THREAD_COUNT);
+        verify(restaurantRepository, times(1)).findByName(missingName);
+    }
+
+    // 모든 스레드가 준비된 뒤 동시에 실행
+    private void burst(Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,345 @@
+package com.jh.restaurantreservationpj.restaurant.service;
+
+import com.jh.restaurantreservationpj.restaurant.dto.RestaurantNameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSearchIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RestaurantSearchIndexTest.class);
+
+    private static final String[] WORDS = {"버거", "피자", "치킨", "국밥", "Pasta", "Sushi", "카페", "Grill", "분식", "냉면"};
+    private static final String[] AREAS = {"강남", "홍대", "판교", "Seoul", "부산", "잠실", "성수", "Busan"};
+
+    private RestaurantSearchIndex index;
+
+    @BeforeEach
+    void before() {
+        index = new RestaurantSearchIndex();
+    }
+
+    @Test
+    @DisplayName("검색어를 포함하는 매장을 이름 오름차순으로 페이징하여 조회")
+    void search() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "매장 이름"),
+                new RestaurantNameDto(2L, "매가"),
+                new RestaurantNameDto(3L, "Burger House"),
+                new RestaurantNameDto(4L, "버거 매장 이름")
+        ));
+
+        RestaurantSearchIndex.SearchResult shortWord = index.search("매", 0, 10);
+        RestaurantSearchIndex.SearchResult longWord = index.search("매장 이", 0, 1);
+        RestaurantSearchIndex.SearchResult ignoreCase = index.search("burger", 0, 10);
+
+        assertThat(shortWord.ids()).containsExactly(2L, 1L, 4L);
+        assertThat(longWord.ids()).containsExactly(1L);
+        assertThat(longWord.total()).isEqualTo(2);
+        assertThat(ignoreCase.ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("매장 등록, 수정, 삭제 반영")
+    void sync() {
+        index.rebuild(() -> List.of());
+
+        index.add(1L, "매장 이름");
+        assertThat(index.search("매장 이", 0, 10).ids()).containsExactly(1L);
+
+        index.update(1L, "새로운 매장");
+        assertThat(index.search("매장 이", 0, 10).total()).isEqualTo(0);
+        assertThat(index.search("새로운", 0, 10).ids()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("새로운", 0, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않는 이름 순서로 정렬하고 페이지만큼만 조회")
+    void searchOrderIgnoreCase() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "banana Cafe"),
+                new RestaurantNameDto(2L, "Apple Cafe"),
+                new RestaurantNameDto(3L, "cherry cafe"),
+                new RestaurantNameDto(4L, "Apple Cafe") // 같은 이름은 아이디 순서
+        ));
+        index.add(5L, "Avocado Cafe");
+
+        assertThat(index.search("cafe", 0, 10).ids()).containsExactly(2L, 4L, 5L, 1L, 3L);
+        assertThat(index.search("cafe", 1, 2).ids()).containsExactly(4L, 5L);
+        assertThat(index.search("cafe", 4, 10).ids()).containsExactly(3L);
+        assertThat(index.search("cafe", 1, 2).total()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 자리에 매장이 계속 등록되어 순위 사이 값이 없으면 순위를 다시 매김")
+    void searchOrderAfterRenumber() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "a"),
+                new RestaurantNameDto(2L, "b")
+        ));
+
+        List<Long> expected = new ArrayList<>(List.of(1L));
+        for (long id = 3; id < 43; id++) { // "a" 바로 뒤에 등록
+            index.add(id, "a" + "0".repeat(43 - (int) id));
+            expected.add(1, id);
+        }
+        expected.add(2L);
+
+        assertThat(index.search("", 0, 100).ids()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("초성으로 검색")
+    void searchChosung() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "버거집"),
+                new RestaurantNameDto(2L, "강남 버거 집"),
+                new RestaurantNameDto(3L, "부산 국밥")
+        ));
+
+        assertThat(index.search("ㅂㄱㅈ", 0, 10).ids()).containsExactly(2L, 1L);
+        assertThat(index.search("ㄱㅂ", 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("ㅂㅅ ㄱㅂ", 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자로 검색")
+    void searchPartialSyllable() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "버거집"),
+                new RestaurantNameDto(2L, "닭갈비"),
+                new RestaurantNameDto(3L, "맥아 카페")
+        ));
+
+        assertThat(index.search("버거ㅈ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("버거지", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("버겆", 0, 10).ids()).containsExactly(1L); // 다음 글자의 초성이 받침으로 입력된 경우
+        assertThat(index.search("달", 0, 10).ids()).containsExactly(2L); // 겹받침
+        assertThat(index.search("매가", 0, 10).total()).isEqualTo(0); // 글자 경계가 다른 경우 ("맥아")
+    }
+
+    @Test
+    @DisplayName("검색어로 시작하는 매장 이름 자동 완성")
+    void autocomplete() {
+        index.rebuild(() -> List.of(
+                new RestaurantNameDto(1L, "매장 이름"),
+                new RestaurantNameDto(2L, "매가"),
+                new RestaurantNameDto(3L, "Burger House"),
+                new RestaurantNameDto(4L, "버거 매장 이름"),
+                new RestaurantNameDto(5L, "매장 이름") // 다른 지점의 같은 이름
+        ));
+
+        assertThat(index.autocomplete("매", 10)).containsExactly("매가", "매장 이름", "매장 이름");
+        assertThat(index.autocomplete("매", 1)).containsExactly("매가");
+        assertThat(index.autocomplete("bur", 10)).containsExactly("Burger House");
+
+        index.update(2L, "가게");
+        index.remove(5L);
+
+        assertThat(index.autocomplete("매", 10)).containsExactly("매장 이름");
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 후 사용 가능")
+    void ready() {
+        assertThat(index.isReady()).isFalse();
+
+        index.rebuild(() -> List.of(new RestaurantNameDto(1L, "매장 이름")));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("매장 이", 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후 반영")
+    void applyAfterCommit() {
+        index.rebuild(() -> List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.add(1L, "매장 이름");
+
+            assertThat(index.isReady()).isFalse(); // 현재 트랜잭션은 db 에서 검색
+            assertThat(index.search("매장 이", 0, 10).total()).isEqualTo(0);
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("매장 이", 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 반영하지 않음")
+    void skipRollback() {
+        index.rebuild(() -> List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.add(1L, "매장 이름");
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("매장 이", 0, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("재적재 조회 중에 커밋된 변경도 새 인덱스에 반영")
+    void rebuildWithChangesDuringLoad() {
+        index.rebuild(() -> List.of(new RestaurantNameDto(1L, "매장 이름")));
+
+        index.rebuild(() -> {
+            index.add(2L, "조회 중 등록"); // db 조회 결과에 없는 변경
+            index.remove(1L); // db 조회 결과에 남아있는 변경
+            return List.of(new RestaurantNameDto(1L, "매장 이름"));
+        });
+
+        assertThat(index.search("조회 중", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("매장 이", 0, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    @Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+    @DisplayName("매장 10만개에서 검색 결과가 전체 확인 결과와 같음")
+    void searchLargeIndex() {
+        Random random = new Random(1);
+        List<RestaurantNameDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            String name = AREAS[random.nextInt(AREAS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            restaurants.add(new RestaurantNameDto(id, name));
+        }
+
+        long buildStart = System.nanoTime();
+        index.rebuild(() -> restaurants);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        List<String> queries = List.of("강남 버거", "seoul pasta", "홍대 치킨 1", "99999", "성수", "없는 매장");
+        long searchStart = System.nanoTime();
+        for (String query : queries) {
+            RestaurantSearchIndex.SearchResult searched = index.search(query, 0, 20);
+
+            List<RestaurantNameDto> expected = restaurants.stream()
+                    .filter(r -> r.getName().toLowerCase(Locale.ROOT).contains(query))
+                    .sorted(Comparator.comparing((RestaurantNameDto r) -> r.getName().toLowerCase(Locale.ROOT)).thenComparing(RestaurantNameDto::getId))
+                    .toList();
+
+            assertThat(searched.total()).isEqualTo(expected.size());
+            assertThat(searched.ids()).containsExactlyElementsOf(expected.stream().limit(20).map(RestaurantNameDto::getId).toList());
+        }
+        long searchMicros = (System.nanoTime() - searchStart) / 1_000 / queries.size();
+
+        long autocompleteStart = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.autocomplete(AREAS[i % AREAS.length], 10)).hasSize(10);
+        }
+        long autocompleteNanos = (System.nanoTime() - autocompleteStart) / 10_000;
+
+        log.info("매장 {}개 인덱스 적재 {}ms, 검색 평균 {}us (전체 확인 포함), 자동 완성 평균 {}ns", restaurants.size(), buildMillis, searchMicros, autocompleteNanos);
+    }
+
+    @Test
+    @Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+    @DisplayName("한글 매장 10만개에서 초성, 입력 중인 글자 검색")
+    void searchLargeKoreanIndex() {
+        Random random = new Random(1);
+        List<RestaurantNameDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            restaurants.add(new RestaurantNameDto(id, randomKoreanName(random)));
+        }
+        index.rebuild(() -> restaurants);
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = restaurants.get(random.nextInt(restaurants.size())).getName();
+            queries.add(HangulForms.chosung(name.substring(0, 3))); // 초성
+            queries.add(name.substring(0, 3) + "ㅇ"); // 입력 중인 글자
+        }
+
+        long start = System.nanoTime();
+        for (String query : queries) {
+            index.search(query, 0, 20);
+        }
+        long averageMicros = (System.nanoTime() - start) / 1_000 / queries.size();
+
+        // 초성 검색 결과 확인
+        String chosung = HangulForms.chosung(restaurants.get(0).getName().substring(0, 3));
+        long expected = restaurants.stream()
+                .filter(r -> HangulForms.chosung(r.getName()).contains(chosung))
+                .count();
+        assertThat(index.search(chosung, 0, 20).total()).isEqualTo(expected);
+
+        log.info("한글 매장 {}개 초성, 입력 중인 글자 검색 평균 {}us", restaurants.size(), averageMicros);
+    }
+
+    @Test
+    @DisplayName("3글자 이하 검색어도 역색인으로 후보를 좁힘")
+    void shortQueryCandidates() {
+        Random random = new Random(1);
+        List<RestaurantNameDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            restaurants.add(new RestaurantNameDto(id, randomKoreanName(random)));
+        }
+        index.rebuild(() -> restaurants);
+
+        String name = restaurants.get(0).getName();
+        String chosung = HangulForms.chosung(name.substring(0, 2));
+        String typing = name.substring(0, 2) + "ㅇ";
+        String single = name.substring(0, 1);
+
+        // 초성 2글자 : 초성 형태에 해당 조각이 있는 매장만
+        assertThat(index.countCandidates(chosung)).isEqualTo(count(restaurants, r -> HangulForms.chosung(r.getName()).contains(chosung)));
+        // 입력 중인 3글자 : 앞의 2글자를 포함하는 매장만
+        assertThat(index.countCandidates(typing)).isEqualTo(count(restaurants, r -> r.getName().contains(name.substring(0, 2))));
+        // 한 글자 : 같은 초성을 가진 매장만
+        assertThat(index.countCandidates(single)).isEqualTo(count(restaurants, r -> HangulForms.chosung(r.getName()).contains(HangulForms.chosung(single))));
+        assertThat(index.countCandidates(single)).isLessThan(restaurants.size());
+
+        // 후보를 좁혀도 검색 결과는 전체 확인 결과와 같음
+        assertThat(index.search(chosung, 0, 20).total()).isEqualTo(count(restaurants, r -> HangulForms.chosung(r.getName()).contains(chosung)));
+    }
+
+    private static long count(List<RestaurantNameDto> restaurants, Predicate<RestaurantNameDto> condition) {
+        return restaurants.stream().filter(condition).count();
+    }
+
+    // 현재 트랜잭션 완료 처리
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // 임의의 한글 3~6 글자 이름
+    private static String randomKoreanName(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('가' + random.nextInt(11172)));
+        }
+
+        return sb.toString();
+    }
+}
@@ -236,4 +236,19 @@ class RestaurantServiceTest {
 
         assertThat(all.getContent()).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("매장 전체 리스트 조회 서비스 - 전체 개수")
+    void allTotal() {
+        restaurantService.createRestaurant("manager", createRequest);
+        restaurantService.createRestaurant("manager", createRequest.toBuilder()
+                .name("매가")
+                .build());
+
+        Page<CheckRestaurantDto.Response> all = restaurantService.all(PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "name")));
+
+        assertThat(all.getContent()).hasSize(1);
+        assertThat(all.getTotalElements()).isEqualTo(2);
+        assertThat(all.getTotalPages()).isEqualTo(2);
+    }
+}
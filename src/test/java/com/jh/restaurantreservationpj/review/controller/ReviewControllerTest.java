@@ -437,4 +437,22 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.status").value(200))
                 .andExpect(jsonPath("$.data").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("매장의 리뷰 리스트 조회 컨트롤러")
+    void restaurantList() throws Exception {
+        reviewService.createReview("test", createRequest);
+
+        mockMvc.perform(get("/reviews/search/restaurant/매장"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.data.content[0].restaurantName").value("매장"));
+    }
+
+    @Test
+    @DisplayName("매장의 리뷰 리스트 조회 컨트롤러 실패 - 없는 매장")
+    void failRestaurantList() throws Exception {
+        mockMvc.perform(get("/reviews/search/restaurant/없는매장"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,7 @@
 package com.jh.restaurantreservationpj.review.service;
 
+import com.jh.restaurantreservationpj.config.CursorPage;
+import com.jh.restaurantreservationpj.config.QueryCounter;
 import com.jh.restaurantreservationpj.member.domain.Member;
 import com.jh.restaurantreservationpj.member.exception.MemberErrorCode;
 import com.jh.restaurantreservationpj.member.exception.MemberException;
@@ -15,9 +17,13 @@ import com.jh.restaurantreservationpj.review.dto.ModifyReviewDto;
 import com.jh.restaurantreservationpj.review.exception.ReviewErrorCode;
 import com.jh.restaurantreservationpj.review.exception.ReviewException;
 import com.jh.restaurantreservationpj.review.repository.ReviewRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -29,6 +35,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,6 +49,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 class ReviewServiceTest {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewServiceTest.class);
+
     @Autowired
     private MemberRepository memberRepository;
 
@@ -53,6 +66,11 @@ class ReviewServiceTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final long LIST_QUERY_BUDGET = 3; // 목록 조회 1회에 허용하는 쿼리 수 (매장, 목록, 개수)
+
     CreateReviewDto.Request createRequest;
     ModifyReviewDto.Request modifyRequest;
     Pageable pageable = PageRequest.of(0, 10, Sort.Direction.DESC, "regDate");
@@ -285,4 +303,138 @@ class ReviewServiceTest {
         assertThat(responses.getTotalElements()).isEqualTo(2);
         assertThat(responses.getContent().get(0).getContent()).isEqualTo("내용2");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("매장의 리뷰 리스트 조회 서비스")
+    void restaurantList() {
+        Member manager = memberRepository.findByUserId("manager").orElse(null);
+        restaurantRepository.save(Restaurant.builder()
+                .name("다른 매장")
+                .description("설명")
+                .totalAddress("주소")
+                .manager(manager)
+                .build());
+
+        reviewService.createReview("test", createRequest);
+        reviewService.createReview("ttt", createRequest.toBuilder()
+                .restaurantName("다른 매장")
+                .build());
+
+        Page<CheckReviewDto.Response> responses = reviewService.checkRestaurantReviewList("매장", pageable);
+
+        assertThat(responses.getTotalElements()).isEqualTo(1);
+        assertThat(responses.getContent().get(0).getMemberId()).isEqualTo("test");
+        assertThat(responses.getContent().get(0).getRestaurantName()).isEqualTo("매장");
+    }
+
+    @Test
+    @DisplayName("매장의 리뷰 리스트 조회 서비스 실패 - 없는 매장")
+    void failRestaurantList() {
+        try {
+            reviewService.checkRestaurantReviewList("없는 매장", pageable);
+        } catch (RestaurantException e) {
+            assertThat(e.getMessage()).isEqualTo(RestaurantErrorCode.NOT_FOUND_RESTAURANT.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 조회 시 리뷰 수와 관계없이 정해진 쿼리 수 이내로 조회")
+    void listQueryCount() {
+        Member manager = memberRepository.findByUserId("manager").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+        for (int i = 0; i < 20; i++) { // 서로 다른 회원 20명이 서로 다른 매장 20곳과 "매장"에 작성한 리뷰
+            Member member = memberRepository.save(Member.builder()
+                    .userId("member" + i)
+                    .userPWD("1234")
+                    .build());
+            Restaurant another = restaurantRepository.save(Restaurant.builder()
+                    .name("매장" + i)
+                    .description("설명")
+                    .totalAddress("주소")
+                    .manager(manager)
+                    .build());
+            reviewRepository.save(Review.builder().member(member).restaurant(another).title("제목").content("내용").build());
+            reviewRepository.save(Review.builder().member(member).restaurant(restaurant).title("제목").content("내용").build());
+        }
+        Pageable page = PageRequest.of(0, 20, Sort.Direction.DESC, "regDate");
+
+        long listQueries = QueryCounter.count(entityManager, () -> reviewService.checkReviewList(page));
+        long restaurantListQueries = QueryCounter.count(entityManager, () -> reviewService.checkRestaurantReviewList("매장", page));
+        long cursorQueries = QueryCounter.count(entityManager, () -> reviewService.checkReviewList(null, 20));
+
+        assertThat(listQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+        assertThat(restaurantListQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+        assertThat(cursorQueries).isLessThanOrEqualTo(LIST_QUERY_BUDGET);
+    }
+
+    // 테스트용 리뷰 count 개 저장
+    private List<Review> saveReviews(int count) {
+        Member member = memberRepository.findByUserId("test").orElse(null);
+        Restaurant restaurant = restaurantRepository.findByName("매장").orElse(null);
+
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reviews.add(Review.builder()
+                    .member(member)
+                    .restaurant(restaurant)
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .build());
+        }
+
+        return reviewRepository.saveAll(reviews);
+    }
+
+    @Test
+    @DisplayName("리뷰 전체 리스트 커서 페이징 조회 서비스")
+    void checkListByCursor() {
+        saveReviews(25);
+
+        Set<String> titles = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<CheckReviewDto.Response> page = reviewService.checkReviewList(cursor, 10);
+            page.getContent().forEach(r -> titles.add(r.getTitle()));
+            pageSizes.add(page.getContent().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(titles).hasSize(25); // 중복, 누락 없음
+    }
+
+    @Test
+    @DisplayName("리뷰 전체 리스트 커서 페이징 조회 서비스 실패 - 잘못된 커서")
+    void failCheckListByCursor() {
+        try {
+            reviewService.checkReviewList("잘못된 커서", 10);
+        } catch (ReviewException e) {
+            assertThat(e.getMessage()).isEqualTo(ReviewErrorCode.NOT_VALID_CURSOR.getMessage());
+        }
+    }
+
+    @Test
+    @Tag("benchmark") // 실행 시간 측정, ./gradlew benchmark 로 따로 실행
+    @DisplayName("깊은 페이지 조회 시 offset 페이징과 커서 페이징 비교")
+    void deepPageByCursor() {
+        int total = 20_000;
+        int size = 20;
+        saveReviews(total);
+        Sort latest = Sort.by(Sort.Direction.DESC, "regDate").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        for (int depth : new int[]{10, 100, 900}) {
+            long offsetStart = System.nanoTime();
+            List<Review> byOffset = reviewRepository.findAllBy(PageRequest.of(depth, size, latest));
+            long offsetMicros = (System.nanoTime() - offsetStart) / 1_000;
+
+            Review last = reviewRepository.findAllBy(PageRequest.of(depth - 1, size, latest)).get(size - 1); // 이전 페이지의 마지막 리뷰
+            long cursorStart = System.nanoTime();
+            List<Review> byCursor = reviewRepository.findOlderThan(last.getRegDate(), last.getId(), PageRequest.of(0, size));
+            long cursorMicros = (System.nanoTime() - cursorStart) / 1_000;
+
+            assertThat(byCursor).extracting(Review::getId).containsExactlyElementsOf(byOffset.stream().map(Review::getId).toList());
+            log.info("리뷰 {}개 중 {}번째 페이지 : offset {}us, cursor {}us", total, depth, offsetMicros, cursorMicros);
+        }
+    }
+}